@@ -3,7 +3,10 @@
 import { useEffect, useState } from "react";
 import Cookies from "js-cookie";
 import { useRouter } from "next/navigation";
-import { BookingSummary, Room, User } from "@/types";
+import { BookingPage, BookingSummary, Room, User } from "@/types";
+import { debounce, subscribeBookingStream } from "@/lib/bookingStream";
+
+const BOOKINGS_PAGE_SIZE = 50;
 
 export default function AdminDashboard() {
     const router = useRouter();
@@ -12,6 +15,8 @@ export default function AdminDashboard() {
         "ROOMS"
     );
     const [bookings, setBookings] = useState<BookingSummary[]>([]);
+    const [bookingsCursor, setBookingsCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [rooms, setRooms] = useState<Room[]>([]);
     const [users, setUsers] = useState<User[]>([]);
     const [loading, setLoading] = useState(true);
@@ -41,16 +46,21 @@ export default function AdminDashboard() {
                         headers,
                         cache: "no-store",
                     }),
-                    fetch(`${process.env.NEXT_PUBLIC_API_URL}/bookings`, {
-                        headers,
-                    }),
+                    fetch(
+                        `${process.env.NEXT_PUBLIC_API_URL}/bookings?order=desc&limit=${BOOKINGS_PAGE_SIZE}`,
+                        { headers }
+                    ),
                     fetch(`${process.env.NEXT_PUBLIC_API_URL}/users`, {
                         headers,
                     }),
                 ]);
 
                 if (resRooms.ok) setRooms(await resRooms.json());
-                if (resBookings.ok) setBookings(await resBookings.json());
+                if (resBookings.ok) {
+                    const page: BookingPage = await resBookings.json();
+                    setBookings(page.items);
+                    setBookingsCursor(page.nextCursor);
+                }
 
                 if (resUsers.ok) {
                     setUsers(await resUsers.json());
@@ -70,8 +80,71 @@ export default function AdminDashboard() {
             }
         }
         fetchAllData();
+
+        async function fetchBookings() {
+            const res = await fetch(
+                `${process.env.NEXT_PUBLIC_API_URL}/bookings?order=desc&limit=${BOOKINGS_PAGE_SIZE}`,
+                { headers: { Authorization: `Bearer ${token}` } }
+            );
+            if (res.ok) {
+                const page: BookingPage = await res.json();
+                setBookings(page.items);
+                setBookingsCursor(page.nextCursor);
+            }
+        }
+
+        async function fetchRooms() {
+            const res = await fetch(`${process.env.NEXT_PUBLIC_API_URL}/rooms`, {
+                headers: { Authorization: `Bearer ${token}` },
+                cache: "no-store",
+            });
+            if (res.ok) setRooms(await res.json());
+        }
+
+        // Cancellations are applied in place; new bookings need names the event does not carry.
+        const refetch = debounce(fetchBookings);
+        return subscribeBookingStream(
+            token,
+            {},
+            {
+                onEvent: (event) => {
+                    if (event.type === "booking.cancelled") {
+                        setBookings((current) =>
+                            current.filter((b) => b.id !== event.bookingId)
+                        );
+                    } else if (event.type === "rooms.changed") {
+                        fetchRooms();
+                    } else {
+                        refetch();
+                    }
+                },
+                onReset: fetchAllData,
+            }
+        );
     }, [router]);
 
+    // Newest first; older bookings come one page at a time behind the cursor.
+    async function loadMoreBookings() {
+        if (!bookingsCursor) return;
+        setLoadingMore(true);
+        const token = Cookies.get("room_token");
+        try {
+            const res = await fetch(
+                `${process.env.NEXT_PUBLIC_API_URL}/bookings?order=desc&limit=${BOOKINGS_PAGE_SIZE}&cursor=${encodeURIComponent(bookingsCursor)}`,
+                { headers: { Authorization: `Bearer ${token}` } }
+            );
+            if (res.ok) {
+                const page: BookingPage = await res.json();
+                setBookings((current) => [...current, ...page.items]);
+                setBookingsCursor(page.nextCursor);
+            }
+        } catch (error) {
+            setFeedback({ text: "Erro de rede.", type: "error" });
+        } finally {
+            setLoadingMore(false);
+        }
+    }
+
     function handleTabChange(tab: "ROOMS" | "USERS" | "BOOKINGS") {
         setActiveTab(tab);
         setFeedback(null);
@@ -141,20 +214,29 @@ export default function AdminDashboard() {
     }
 
     async function handleDeleteRoom(id: number) {
-        if (!confirm("Tem certeza? Isso pode apagar histórico de reservas!"))
+        if (
+            !confirm(
+                "Tem certeza? As reservas futuras desta sala serão canceladas e as passadas irão para o histórico."
+            )
+        )
             return;
         const token = Cookies.get("room_token");
         try {
             const res = await fetch(
-                `${process.env.NEXT_PUBLIC_API_URL}/rooms/${id}`,
+                `${process.env.NEXT_PUBLIC_API_URL}/rooms/${id}?cascade=future`,
                 {
                     method: "DELETE",
                     headers: { Authorization: `Bearer ${token}` },
                 }
             );
-            if (res.ok || res.status === 204) {
+            if (res.ok) {
+                const result: { cancelled: number; archived: number } =
+                    await res.json();
                 setRooms(rooms.filter((r) => r.id !== id));
-                setFeedback({ text: "Sala excluída.", type: "success" });
+                setFeedback({
+                    text: `Sala excluída. ${result.cancelled} reserva(s) cancelada(s), ${result.archived} arquivada(s).`,
+                    type: "success",
+                });
             } else {
                 setFeedback({ text: "Erro ao excluir sala.", type: "error" });
             }
@@ -559,6 +641,17 @@ export default function AdminDashboard() {
                                 )}
                             </tbody>
                         </table>
+                        {bookingsCursor && (
+                            <div className="p-4 text-center border-t border-slate-200">
+                                <button
+                                    onClick={loadMoreBookings}
+                                    disabled={loadingMore}
+                                    className="text-indigo-600 hover:text-indigo-900 hover:underline text-sm font-medium cursor-pointer disabled:opacity-50"
+                                >
+                                    {loadingMore ? "Carregando..." : "Carregar mais"}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 )}
             </div>
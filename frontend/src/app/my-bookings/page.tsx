@@ -3,11 +3,17 @@
 import { useEffect, useState } from "react";
 import Cookies from "js-cookie";
 import { useRouter } from "next/navigation";
-import { BookingSummary } from "@/types";
+import { jwtDecode } from "jwt-decode";
+import { BookingPage, BookingSummary } from "@/types";
+import { debounce, subscribeBookingStream } from "@/lib/bookingStream";
+
+const PAGE_SIZE = 50;
 
 export default function MyBookings() {
     const router = useRouter();
     const [bookings, setBookings] = useState<BookingSummary[]>([]);
+    const [cursor, setCursor] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState("");
     const [success, setSuccess] = useState("");
@@ -22,13 +28,15 @@ export default function MyBookings() {
         async function fetchMyBookings() {
             try {
                 const res = await fetch(
-                    `${process.env.NEXT_PUBLIC_API_URL}/bookings/my`,
+                    `${process.env.NEXT_PUBLIC_API_URL}/bookings/my?limit=${PAGE_SIZE}`,
                     {
                         headers: { Authorization: `Bearer ${token}` },
                     }
                 );
                 if (res.ok) {
-                    setBookings(await res.json());
+                    const page: BookingPage = await res.json();
+                    setBookings(page.items);
+                    setCursor(page.nextCursor);
                 } else {
                     setError("Erro ao carregar suas reservas.");
                 }
@@ -39,8 +47,51 @@ export default function MyBookings() {
             }
         }
         fetchMyBookings();
+
+        // Only the signed-in user's changes arrive here, so an idle page receives nothing.
+        const { uid } = jwtDecode<{ uid: number }>(token);
+        const refetch = debounce(fetchMyBookings);
+        return subscribeBookingStream(
+            token,
+            { userId: uid },
+            {
+                onEvent: (event) => {
+                    if (event.type === "booking.cancelled") {
+                        setBookings((current) =>
+                            current.filter((b) => b.id !== event.bookingId)
+                        );
+                    } else {
+                        refetch();
+                    }
+                },
+                onReset: fetchMyBookings,
+            }
+        );
     }, [router]);
 
+    async function loadMore() {
+        if (!cursor) return;
+        setLoadingMore(true);
+        const token = Cookies.get("room_token");
+        try {
+            const res = await fetch(
+                `${process.env.NEXT_PUBLIC_API_URL}/bookings/my?limit=${PAGE_SIZE}&cursor=${encodeURIComponent(cursor)}`,
+                { headers: { Authorization: `Bearer ${token}` } }
+            );
+            if (res.ok) {
+                const page: BookingPage = await res.json();
+                setBookings((current) => [...current, ...page.items]);
+                setCursor(page.nextCursor);
+            } else {
+                setError("Erro ao carregar suas reservas.");
+            }
+        } catch (err) {
+            setError("Erro de conexão.");
+        } finally {
+            setLoadingMore(false);
+        }
+    }
+
     async function handleCancel(id: number) {
         if (!confirm("Tem certeza que deseja cancelar esta reserva?")) return;
         setSuccess("");
@@ -187,6 +238,17 @@ export default function MyBookings() {
                             );
                         })
                     )}
+                    {cursor && (
+                        <div className="text-center">
+                            <button
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="px-4 py-2 bg-white border border-slate-200 text-slate-600 rounded-lg hover:bg-slate-50 transition text-sm font-medium cursor-pointer shadow-sm disabled:opacity-50"
+                            >
+                                {loadingMore ? "Carregando..." : "Carregar mais"}
+                            </button>
+                        </div>
+                    )}
                 </div>
             </div>
         </main>
@@ -9,6 +9,11 @@ interface BookingFormProps {
     roomName: string;
 }
 
+interface BookingHold {
+    id: number;
+    expiresAt: string;
+}
+
 export default function BookingForm({ roomId, roomName }: BookingFormProps) {
     const [isOpen, setIsOpen] = useState(false);
 
@@ -22,12 +27,73 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
     const [startAt, setStartAt] = useState(defaultStart);
     const [endAt, setEndAt] = useState(defaultEnd);
     const [loading, setLoading] = useState(false);
+    const [hold, setHold] = useState<BookingHold | null>(null);
     const [message, setMessage] = useState<{
         text: string;
         type: "success" | "error";
     } | null>(null);
     const router = useRouter();
 
+    function releaseHold() {
+        if (!hold) return;
+        setHold(null);
+        fetch(`${process.env.NEXT_PUBLIC_API_URL}/bookings/holds/${hold.id}`, {
+            method: "DELETE",
+            headers: { Authorization: `Bearer ${Cookies.get("room_token")}` },
+        }).catch(() => {});
+    }
+
+    // Keeps the slot away from other users for a few minutes while this form is still open.
+    async function handleHold() {
+        setMessage(null);
+        const token = Cookies.get("room_token");
+        if (!token) {
+            router.push("/login");
+            return;
+        }
+        releaseHold();
+
+        try {
+            const res = await fetch(
+                `${process.env.NEXT_PUBLIC_API_URL}/bookings/holds`,
+                {
+                    method: "POST",
+                    headers: {
+                        "Content-Type": "application/json",
+                        Authorization: `Bearer ${token}`,
+                    },
+                    body: JSON.stringify({
+                        roomId,
+                        startAt: startAt + ":00",
+                        endAt: endAt + ":00",
+                    }),
+                }
+            );
+            const data = await res.json().catch(() => null);
+            if (res.ok) {
+                setHold({ id: data.id, expiresAt: data.expiresAt });
+                const until = new Date(data.expiresAt).toLocaleTimeString("pt-BR", {
+                    hour: "2-digit",
+                    minute: "2-digit",
+                });
+                setMessage({
+                    text: `Horário segurado até ${until}. Confirme para concluir.`,
+                    type: "success",
+                });
+            } else {
+                setMessage({
+                    text: data?.error || "Não foi possível segurar o horário.",
+                    type: "error",
+                });
+            }
+        } catch (error) {
+            setMessage({
+                text: "Erro de conexão com o servidor.",
+                type: "error",
+            });
+        }
+    }
+
     async function handleReserve(e: React.FormEvent) {
         e.preventDefault();
         setLoading(true);
@@ -51,17 +117,31 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
                 endAt: endAt + ":00",
             };
 
-            const res = await fetch(
-                `${process.env.NEXT_PUBLIC_API_URL}/bookings`,
-                {
+            const book = () =>
+                fetch(`${process.env.NEXT_PUBLIC_API_URL}/bookings`, {
                     method: "POST",
                     headers: {
                         "Content-Type": "application/json",
                         Authorization: `Bearer ${token}`,
                     },
                     body: JSON.stringify(payload),
-                }
-            );
+                });
+
+            let res = hold
+                ? await fetch(
+                      `${process.env.NEXT_PUBLIC_API_URL}/bookings/holds/${hold.id}/confirm`,
+                      {
+                          method: "POST",
+                          headers: { Authorization: `Bearer ${token}` },
+                      }
+                  )
+                : await book();
+
+            // The hold expired (410) or is gone, e.g. after a restart (404): book the slot directly.
+            if (hold && (res.status === 404 || res.status === 410)) {
+                setHold(null);
+                res = await book();
+            }
 
             let data;
             try {
@@ -71,6 +151,7 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
             }
 
             if (res.ok) {
+                setHold(null);
                 setMessage({
                     text: "Reserva confirmada com sucesso!",
                     type: "success",
@@ -129,7 +210,10 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
                                 required
                                 className="w-full border border-slate-300 p-2.5 rounded-lg focus:ring-2 focus:ring-indigo-500 focus:border-indigo-500 outline-none text-slate-600 bg-white"
                                 value={startAt}
-                                onChange={(e) => setStartAt(e.target.value)}
+                                onChange={(e) => {
+                                    releaseHold();
+                                    setStartAt(e.target.value);
+                                }}
                             />
                         </div>
 
@@ -142,7 +226,10 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
                                 required
                                 className="w-full border border-slate-300 p-2.5 rounded-lg focus:ring-2 focus:ring-indigo-500 focus:border-indigo-500 outline-none text-slate-600 bg-white"
                                 value={endAt}
-                                onChange={(e) => setEndAt(e.target.value)}
+                                onChange={(e) => {
+                                    releaseHold();
+                                    setEndAt(e.target.value);
+                                }}
                             />
                         </div>
                     </div>
@@ -163,6 +250,7 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
                         <button
                             type="button"
                             onClick={() => {
+                                releaseHold();
                                 setIsOpen(false);
                                 setMessage(null);
                             }}
@@ -170,6 +258,15 @@ export default function BookingForm({ roomId, roomName }: BookingFormProps) {
                         >
                             Cancelar
                         </button>
+                        {!hold && (
+                            <button
+                                type="button"
+                                onClick={handleHold}
+                                className="flex-1 px-4 py-2.5 border border-indigo-300 text-indigo-700 rounded-lg hover:bg-indigo-50 transition font-semibold cursor-pointer"
+                            >
+                                Segurar Horário
+                            </button>
+                        )}
                         <button
                             type="submit"
                             disabled={loading}
@@ -0,0 +1,99 @@
+import { BookingStreamEvent } from "@/types";
+
+interface StreamHandlers {
+    onEvent: (event: BookingStreamEvent) => void;
+    onReset: () => void;
+}
+
+const RECONNECT_DELAY_MS = 3000;
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch and
+// parsed by hand. On reconnect, Last-Event-ID lets the server replay what was missed.
+export function subscribeBookingStream(
+    token: string,
+    params: Record<string, string | number | undefined>,
+    handlers: StreamHandlers
+): () => void {
+    const controller = new AbortController();
+    let lastEventId: string | null = null;
+
+    const query = new URLSearchParams();
+    Object.entries(params).forEach(([key, value]) => {
+        if (value !== undefined) query.set(key, String(value));
+    });
+
+    async function connect() {
+        while (!controller.signal.aborted) {
+            try {
+                const headers: Record<string, string> = {
+                    Authorization: `Bearer ${token}`,
+                    Accept: "text/event-stream",
+                };
+                if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+
+                const res = await fetch(
+                    `${process.env.NEXT_PUBLIC_API_URL}/bookings/stream?${query}`,
+                    { headers, signal: controller.signal }
+                );
+                if (!res.ok || !res.body) {
+                    if (res.status === 401 || res.status === 403) return;
+                } else {
+                    await read(res.body);
+                }
+            } catch (err) {
+                if (controller.signal.aborted) return;
+            }
+            await new Promise((resolve) => setTimeout(resolve, RECONNECT_DELAY_MS));
+        }
+    }
+
+    async function read(body: ReadableStream<Uint8Array>) {
+        const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = "";
+        let id: string | null = null;
+        let name = "message";
+        let data = "";
+
+        while (true) {
+            const { value, done } = await reader.read();
+            if (done) return;
+            buffer += value;
+
+            let newline: number;
+            while ((newline = buffer.indexOf("\n")) >= 0) {
+                const line = buffer.slice(0, newline).replace(/\r$/, "");
+                buffer = buffer.slice(newline + 1);
+
+                if (line === "") {
+                    if (id) lastEventId = id;
+                    if (name === "reset") {
+                        handlers.onReset();
+                    } else if (data) {
+                        handlers.onEvent(JSON.parse(data));
+                    }
+                    id = null;
+                    name = "message";
+                    data = "";
+                } else if (line.startsWith("id:")) {
+                    id = line.slice(3).trim();
+                } else if (line.startsWith("event:")) {
+                    name = line.slice(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data += line.slice(5).trim();
+                }
+            }
+        }
+    }
+
+    connect();
+    return () => controller.abort();
+}
+
+// Batches and series commit many bookings at once; one refetch per burst is enough.
+export function debounce(fn: () => void, delayMs = 500): () => void {
+    let timer: ReturnType<typeof setTimeout> | undefined;
+    return () => {
+        clearTimeout(timer);
+        timer = setTimeout(fn, delayMs);
+    };
+}
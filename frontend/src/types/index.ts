@@ -13,9 +13,24 @@ export interface BookingSummary {
     endAt: string;
 }
 
+export interface BookingPage {
+    items: BookingSummary[];
+    nextCursor: string | null;
+}
+
 export interface User {
     id: number;
     name: string;
     email: string;
     role: "ADMIN" | "USER";
 }
+
+export interface BookingStreamEvent {
+    id: number;
+    type: "booking.created" | "booking.cancelled" | "rooms.changed";
+    bookingId: number | null;
+    roomId: number | null;
+    userId: number | null;
+    startAt: string | null;
+    endAt: string | null;
+}
@@ -0,0 +1,95 @@
+package com.room.scheduler.benchmark;
+
+import com.room.scheduler.dto.BookingPage;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// mapEntities is the per-row entity-to-DTO mapping the listings did before they switched to a
+// constructor projection; serializePage is the Jackson cost every listing still pays.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookingListBenchmark {
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private List<Booking> entities;
+    private List<BookingResponse> projected;
+
+    @Setup
+    public void setUp() {
+        List<Room> rooms = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Room room = new Room();
+            room.setId(id);
+            room.setName("Sala " + id);
+            room.setCapacity(10);
+            rooms.add(room);
+        }
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setName("Usuário " + id);
+            user.setEmail("user" + id + "@test.com");
+            user.setRole("USER");
+            users.add(user);
+        }
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 8, 0);
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Booking booking = new Booking();
+            booking.setId((long) i + 1);
+            booking.setRoom(rooms.get(i % rooms.size()));
+            booking.setUser(users.get(i % users.size()));
+            booking.setStartAt(start.plusHours(i));
+            booking.setEndAt(start.plusHours(i).plusMinutes(45));
+            entities.add(booking);
+        }
+        projected = mapEntities();
+    }
+
+    @Benchmark
+    public List<BookingResponse> mapEntities() {
+        return entities.stream()
+                .map(booking -> new BookingResponse(
+                        booking.getId(),
+                        booking.getRoom().getName(),
+                        booking.getUser().getName(),
+                        booking.getUser().getEmail(),
+                        booking.getStartAt(),
+                        booking.getEndAt()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(new BookingPage(projected, null));
+    }
+}
@@ -0,0 +1,137 @@
+package com.room.scheduler.benchmark;
+
+import com.room.scheduler.SchedulerApplication;
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.service.RoomIntervalIndex;
+import com.room.scheduler.service.RoomOccupancyStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Boots the application on the in-memory H2 test profile, so the JPQL path pays the same
+// query, JDBC and transaction overhead the admission pipeline does without the index.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OverlapDetectionBenchmark {
+    private static final int ROOMS = 20;
+    private static final int PROBES = 1024;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    @Param({ "1000", "100000" })
+    public int bookings;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private RoomIntervalIndex intervalIndex;
+    private RoomOccupancyStore occupancyStore;
+
+    private final Long[] probeRooms = new Long[PROBES];
+    private final LocalDateTime[] probeStarts = new LocalDateTime[PROBES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SchedulerApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .run();
+        bookingRepository = context.getBean(BookingRepository.class);
+        intervalIndex = context.getBean(RoomIntervalIndex.class);
+        occupancyStore = context.getBean(RoomOccupancyStore.class);
+
+        User user = new User();
+        user.setName("Bench");
+        user.setEmail("bench@test.com");
+        user.setPassword("x");
+        user.setRole("USER");
+        user = context.getBean(UserRepository.class).save(user);
+
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room();
+            room.setName("Sala " + i);
+            room.setCapacity(10);
+            rooms.add(room);
+        }
+        rooms = context.getBean(RoomRepository.class).saveAll(rooms);
+
+        // One-hour bookings every 90 minutes per room, leaving gaps for the probes to land in.
+        int perRoom = bookings / ROOMS;
+        List<Booking> batch = new ArrayList<>();
+        for (Room room : rooms) {
+            for (int i = 0; i < perRoom; i++) {
+                Booking booking = new Booking();
+                booking.setRoom(room);
+                booking.setUser(user);
+                booking.setStartAt(START.plusMinutes(90L * i));
+                booking.setEndAt(START.plusMinutes(90L * i + 60));
+                batch.add(booking);
+                if (batch.size() == 5_000) {
+                    bookingRepository.saveAll(batch);
+                    batch.clear();
+                }
+            }
+        }
+        bookingRepository.saveAll(batch);
+
+        intervalIndex.reload();
+        occupancyStore.reload();
+
+        Random random = new Random(42);
+        for (int i = 0; i < PROBES; i++) {
+            probeRooms[i] = rooms.get(random.nextInt(ROOMS)).getId();
+            probeStarts[i] = START.plusMinutes(15L * random.nextInt(perRoom * 6));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean jpql() {
+        int i = next++ & (PROBES - 1);
+        return bookingRepository.existsOverlappingBooking(probeRooms[i], probeStarts[i],
+                probeStarts[i].plusMinutes(30));
+    }
+
+    @Benchmark
+    public boolean intervalIndex() {
+        int i = next++ & (PROBES - 1);
+        return intervalIndex.overlaps(probeRooms[i], probeStarts[i], probeStarts[i].plusMinutes(30));
+    }
+
+    // Only a pre-filter: a set bit can come from a partially used slot, as in RoomService.listAvailable.
+    @Benchmark
+    public boolean occupancyBitmap() {
+        int i = next++ & (PROBES - 1);
+        return occupancyStore.mayBeBusy(probeRooms[i], probeStarts[i], probeStarts[i].plusMinutes(30));
+    }
+}
@@ -0,0 +1,90 @@
+package com.room.scheduler.benchmark;
+
+import com.room.scheduler.config.SecurityFilter;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.service.PrincipalCache;
+import com.room.scheduler.service.TokenRevocationList;
+import com.room.scheduler.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// The repository is a stub, so the score covers token verification and principal resolution
+// without any database round trip; cache misses are not part of the steady state measured here.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SecurityFilterBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    @Param({ "false", "true" })
+    public boolean stateless;
+
+    @Param({ "false", "true" })
+    public boolean verifiedCache;
+
+    private SecurityFilter filter;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Bench");
+        user.setEmail("bench@test.com");
+        user.setRole("USER");
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenService tokenService = new TokenService(meterRegistry, SECRET, verifiedCache, Duration.ofSeconds(30),
+                50_000);
+        PrincipalCache principalCache = new PrincipalCache(userRepository, meterRegistry, Duration.ofMinutes(1),
+                10_000);
+        filter = new SecurityFilter(tokenService, principalCache, new TokenRevocationList(), meterRegistry,
+                stateless);
+        header = "Bearer " + tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my");
+        request.addHeader("Authorization", header);
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
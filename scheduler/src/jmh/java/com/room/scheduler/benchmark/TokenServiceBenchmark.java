@@ -0,0 +1,83 @@
+package com.room.scheduler.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.room.scheduler.model.User;
+import com.room.scheduler.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded on purpose: the score reads as verified tokens per second per core.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    @Param({ "PER_CALL", "SHARED_VERIFIER", "VERIFIED_CACHE" })
+    public String mode;
+
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(new SimpleMeterRegistry(), SECRET, mode.equals("VERIFIED_CACHE"),
+                Duration.ofSeconds(30), 50_000);
+
+        User user = new User();
+        user.setEmail("bench@test.com");
+        user.setRole("USER");
+        token = tokenService.generateToken(user);
+    }
+
+    // The same call SecurityFilter makes for every request carrying a bearer token.
+    @Benchmark
+    public Object verify() {
+        if (mode.equals("PER_CALL")) {
+            return verifyPerCall(token);
+        }
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        User user = new User();
+        user.setEmail("bench@test.com");
+        user.setRole("USER");
+        return tokenService.generateToken(user);
+    }
+
+    // What token verification did before the verifier was shared.
+    private DecodedJWT verifyPerCall(String token) {
+        try {
+            Algorithm algorithm = Algorithm.HMAC256(SECRET);
+            return JWT.require(algorithm)
+                    .withIssuer("auth-api")
+                    .build()
+                    .verify(token);
+        } catch (JWTVerificationException exception) {
+            return null;
+        }
+    }
+}
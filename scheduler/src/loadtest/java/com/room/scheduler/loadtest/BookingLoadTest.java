@@ -0,0 +1,294 @@
+package com.room.scheduler.loadtest;
+
+import com.room.scheduler.SchedulerApplication;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.LoginResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Starts the application on the H2 test profile, drives it over HTTP from many threads and
+// then checks tb_bookings directly: no two bookings of a room may overlap, whatever the load did.
+//
+// ./mvnw -Ploadtest test-compile exec:java [-Dloadtest.requests=20000] [-Dloadtest.threads=64]
+//     [-Dloadtest.users=50] [-Dloadtest.rooms=10] [-Dloadtest.mix=create:70,cancel:10,list:20]
+//     [-Dloadtest.overlap=0.5] [-Dloadtest.virtual=false] [-Dloadtest.result=target/loadtest.json]
+public final class BookingLoadTest {
+    private static final String OVERLAPS = """
+            SELECT COUNT(*) FROM tb_bookings a
+            JOIN tb_bookings b ON a.room_id = b.room_id AND a.id < b.id
+            WHERE a.start_at < b.end_at AND a.end_at > b.start_at
+            """;
+
+    private final Settings settings;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ConcurrentLinkedQueue<Created> created = new ConcurrentLinkedQueue<>();
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private LocalDateTime firstDay;
+
+    private BookingLoadTest(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new BookingLoadTest(Settings.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SchedulerApplication.class)
+                .profiles("test")
+                // Command-line arguments, not builder properties: those are mere defaults and
+                // application.properties would override them.
+                .run("--server.port=0", "--spring.threads.virtual.enabled=" + settings.virtualThreads())) {
+            objectMapper = context.getBean(ObjectMapper.class);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            // Far enough ahead that users may still cancel, which is refused inside 24h.
+            firstDay = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.DAYS);
+
+            String admin = register("loadtest-admin@test.com", "ADMIN");
+            List<Long> rooms = new ArrayList<>();
+            for (int i = 0; i < settings.rooms(); i++) {
+                rooms.add(createRoom(admin, "Sala Carga " + i));
+            }
+            List<String> tokens = new ArrayList<>();
+            for (int i = 0; i < settings.users(); i++) {
+                tokens.add(register("loadtest" + i + "@test.com", "USER"));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+            List<Future<List<Sample>>> workers = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            for (int w = 0; w < settings.threads(); w++) {
+                int operations = settings.requests() / settings.threads()
+                        + (w < settings.requests() % settings.threads() ? 1 : 0);
+                workers.add(executor.submit(() -> work(operations, tokens, rooms)));
+            }
+
+            List<Sample> samples = new ArrayList<>();
+            for (Future<List<Sample>> worker : workers) {
+                samples.addAll(worker.get());
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            executor.shutdown();
+
+            long overlaps = context.getBean(JdbcTemplate.class).queryForObject(OVERLAPS, Long.class);
+            Report report = Report.of(settings, samples, seconds, overlaps);
+            report.print();
+            if (settings.resultFile() != null) {
+                Files.write(Path.of(settings.resultFile()), objectMapper.writeValueAsBytes(report));
+            }
+
+            if (overlaps > 0) {
+                throw new IllegalStateException(overlaps + " pares de reservas sobrepostas em tb_bookings");
+            }
+        }
+    }
+
+    private List<Sample> work(int operations, List<String> tokens, List<Long> rooms) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Sample> samples = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            String operation = settings.pick(random.nextInt(settings.mixTotal()));
+            long start = System.nanoTime();
+            int status;
+            String error = null;
+            try {
+                status = switch (operation) {
+                    case "cancel" -> cancel();
+                    case "list" -> list(tokens.get(random.nextInt(tokens.size())));
+                    default -> create(random, tokens, rooms);
+                };
+            } catch (Exception e) {
+                status = -1;
+                error = e.getClass().getSimpleName();
+            }
+            samples.add(new Sample(operation, status, error, System.nanoTime() - start));
+        }
+        return samples;
+    }
+
+    private int create(ThreadLocalRandom random, List<String> tokens, List<Long> rooms) throws Exception {
+        // Contended requests pile onto a few morning hours with 15-minute offsets, so nearly all of
+        // them overlap each other; the rest spread over 60 days of half-hour slots.
+        LocalDateTime startAt = random.nextDouble() < settings.overlap()
+                ? firstDay.plusHours(8).plusMinutes(15L * random.nextInt(16))
+                : firstDay.plusDays(1 + random.nextInt(60)).plusMinutes(30L * random.nextInt(48));
+        String token = tokens.get(random.nextInt(tokens.size()));
+        String body = """
+                {"roomId":%d,"startAt":"%s","endAt":"%s"}
+                """.formatted(rooms.get(random.nextInt(rooms.size())), startAt, startAt.plusHours(1));
+
+        HttpResponse<String> response = client.send(request("/api/bookings", token).POST(
+                HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            created.add(new Created(token, objectMapper.readValue(response.body(), BookingResponse.class).id()));
+        }
+        return response.statusCode();
+    }
+
+    private int cancel() throws Exception {
+        Created booking = created.poll();
+        if (booking == null) {
+            return -2;
+        }
+        return client.send(request("/api/bookings/" + booking.id(), booking.token()).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int list(String token) throws Exception {
+        return client.send(request("/api/bookings/my?limit=50", token).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String register(String email, String role) throws Exception {
+        String body = """
+                {"name":"Carga","email":"%s","password":"secret","role":"%s"}
+                """.formatted(email, role);
+        HttpResponse<String> response = client.send(request("/api/auth/register", null)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readValue(response.body(), LoginResponse.class).token();
+    }
+
+    private Long createRoom(String adminToken, String name) throws Exception {
+        String body = """
+                {"name":"%s","capacity":10}
+                """.formatted(name);
+        HttpResponse<String> response = client.send(request("/api/rooms", adminToken)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private record Created(String token, Long id) {
+    }
+
+    private record Sample(String operation, int status, String error, long nanos) {
+    }
+
+    record Settings(int requests, int threads, int users, int rooms, Map<String, Integer> mix, double overlap,
+            boolean virtualThreads, String resultFile) {
+
+        static Settings fromSystemProperties() {
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            for (String entry : System.getProperty("loadtest.mix", "create:70,cancel:10,list:20").split(",")) {
+                String[] parts = entry.split(":");
+                mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            }
+            return new Settings(
+                    Integer.getInteger("loadtest.requests", 20_000),
+                    Integer.getInteger("loadtest.threads", 64),
+                    Integer.getInteger("loadtest.users", 50),
+                    Integer.getInteger("loadtest.rooms", 10),
+                    mix,
+                    Double.parseDouble(System.getProperty("loadtest.overlap", "0.5")),
+                    Boolean.getBoolean("loadtest.virtual"),
+                    System.getProperty("loadtest.result"));
+        }
+
+        int mixTotal() {
+            return mix.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        String pick(int roll) {
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Mix vazio");
+        }
+    }
+
+    record OperationStats(int count, double perSecond, double p50Ms, double p90Ms, double p99Ms, double p999Ms,
+            double maxMs, Map<Integer, Integer> statuses) {
+
+        static OperationStats of(List<Sample> samples, double seconds) {
+            long[] nanos = samples.stream().mapToLong(Sample::nanos).sorted().toArray();
+            Map<Integer, Integer> statuses = new TreeMap<>();
+            samples.forEach(sample -> statuses.merge(sample.status(), 1, Integer::sum));
+            return new OperationStats(nanos.length, nanos.length / seconds, percentile(nanos, 0.50),
+                    percentile(nanos, 0.90), percentile(nanos, 0.99), percentile(nanos, 0.999),
+                    percentile(nanos, 1.0), statuses);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1e6;
+        }
+    }
+
+    // Status -1 is a client-side failure (timeout, reset), also tallied by exception type under errors,
+    // and -2 a cancel with nothing left to cancel.
+    record Report(Settings settings, double seconds, double perSecond, double conflictRate, long overlappingPairs,
+            Map<String, OperationStats> operations, Map<String, Integer> errors) {
+
+        static Report of(Settings settings, List<Sample> samples, double seconds, long overlaps) {
+            Map<String, List<Sample>> byOperation = new TreeMap<>();
+            samples.forEach(sample -> byOperation.computeIfAbsent(sample.operation(), op -> new ArrayList<>())
+                    .add(sample));
+
+            Map<String, OperationStats> operations = new TreeMap<>();
+            byOperation.forEach((operation, list) -> operations.put(operation, OperationStats.of(list, seconds)));
+
+            List<Sample> creates = byOperation.getOrDefault("create", List.of());
+            long conflicts = creates.stream().filter(sample -> sample.status() == 409).count();
+
+            Map<String, Integer> errors = new TreeMap<>();
+            samples.stream().filter(sample -> sample.error() != null)
+                    .forEach(sample -> errors.merge(sample.error(), 1, Integer::sum));
+            return new Report(settings, seconds, samples.size() / seconds,
+                    creates.isEmpty() ? 0 : (double) conflicts / creates.size(), overlaps, operations, errors);
+        }
+
+        void print() {
+            System.out.printf("%n%d operações em %.1fs (%.0f op/s), threads=%d, virtual=%s%n", operations.values()
+                    .stream().mapToInt(OperationStats::count).sum(), seconds, perSecond, settings.threads(),
+                    settings.virtualThreads());
+            System.out.printf("%-8s %8s %9s %8s %8s %8s %8s %8s  %s%n",
+                    "op", "count", "op/s", "p50ms", "p90ms", "p99ms", "p999ms", "maxms", "status");
+            operations.forEach((operation, stats) -> System.out.printf(
+                    "%-8s %8d %9.0f %8.2f %8.2f %8.2f %8.2f %8.2f  %s%n", operation, stats.count(),
+                    stats.perSecond(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs(),
+                    stats.statuses()));
+            System.out.printf("Taxa de 409 nas criações: %.1f%%%n", conflictRate * 100);
+            System.out.printf("Pares sobrepostos em tb_bookings: %d%n", overlappingPairs);
+            System.out.printf("Erros no cliente: %d %s%n",
+                    errors.values().stream().mapToInt(Integer::intValue).sum(), errors);
+        }
+    }
+}
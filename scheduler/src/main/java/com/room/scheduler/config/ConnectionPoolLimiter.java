@@ -0,0 +1,133 @@
+package com.room.scheduler.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// With virtual threads Tomcat no longer caps concurrency, so thousands of requests could
+// queue inside Hikari for a handful of connections. This bounds the requests that run
+// transactions on their own thread to what the pool can actually serve and sheds the rest.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolLimiter extends OncePerRequestFilter {
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long waitMillis;
+    private final Counter rejected;
+
+    public ConnectionPoolLimiter(MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+            @Value("${concurrency.db-limiter.permits}") int configuredPermits,
+            @Value("${concurrency.db-limiter.wait-ms}") long waitMillis) {
+        this.enabled = virtualThreads;
+        this.permits = new Semaphore(configuredPermits > 0 ? configuredPermits : poolSize, true);
+        this.waitMillis = waitMillis;
+        this.rejected = Counter.builder("http.db.limiter.rejected")
+                .description("Requests shed because every database permit was taken")
+                .register(meterRegistry);
+        Gauge.builder("http.db.limiter.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+        Gauge.builder("http.db.limiter.waiting", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !request.getRequestURI().startsWith("/api/")) {
+            return true;
+        }
+
+        // Booking writes already go through the admission pipeline's bounded stripe queues and
+        // authentication through the hashing pool; neither holds a connection on the request thread.
+        // The event stream never touches the database but stays open, so it must not pin a permit.
+        String path = request.getRequestURI();
+        boolean isPost = HttpMethod.POST.matches(request.getMethod());
+        return path.startsWith("/api/auth/") || path.equals("/api/bookings/stream")
+                || isPost && (path.equals("/api/bookings") || path.equals("/api/bookings/batch")
+                        || path.equals("/api/bookings/series")
+                        || path.startsWith("/api/bookings/holds/") && path.endsWith("/confirm"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("{\"error\":\"Servidor ocupado, tente novamente\"}");
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Streaming exports keep their connection after this thread returns,
+            // so the permit follows the async request until it completes.
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private record ReleasingListener(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
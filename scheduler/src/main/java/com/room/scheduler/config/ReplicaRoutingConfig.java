@@ -0,0 +1,72 @@
+package com.room.scheduler.config;
+
+import com.room.scheduler.service.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Only active when replica URLs are configured; otherwise Boot builds the single primary pool as usual.
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(ReadYourWritesTracker tracker,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.driver-class-name}") String driver,
+            @Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+            @Value("${datasource.replicas.urls}") String replicaUrls,
+            @Value("${datasource.replicas.username}") String replicaUsername,
+            @Value("${datasource.replicas.password}") String replicaPassword,
+            @Value("${datasource.replicas.pool-size}") int replicaPoolSize,
+            @Value("${datasource.replicas.lag-query}") String lagQuery,
+            @Value("${datasource.replicas.max-lag}") Duration maxLag,
+            @Value("${datasource.replicas.check-ms}") long checkMillis) {
+        HikariDataSource primary = pool("primary", url, username, password, driver, poolSize, false, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        String[] urls = replicaUrls.split(",");
+        for (int i = 0; i < urls.length; i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, pool(name, urls[i].trim(), replicaUsername, replicaPassword, driver,
+                    replicaPoolSize, true, meterRegistry));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, tracker, meterRegistry, lagQuery, maxLag, checkMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password, String driver,
+            int size, boolean readOnly, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(driver);
+        config.setMaximumPoolSize(size);
+        config.setReadOnly(readOnly);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
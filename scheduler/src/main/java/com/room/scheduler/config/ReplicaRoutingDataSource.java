@@ -0,0 +1,158 @@
+package com.room.scheduler.config;
+
+import com.room.scheduler.service.ReadYourWritesTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only transactions go to a replica whose replay lag is within bounds; everything else, and
+// the reads of a user who has just written, stays on the primary. Must sit behind a
+// LazyConnectionDataSourceProxy: the transaction is only marked read-only after it has begun, so
+// the physical connection has to be picked at the first statement, not at begin.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long checkMillis;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final Thread monitor;
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+            ReadYourWritesTracker tracker, MeterRegistry meterRegistry,
+            String lagQuery, Duration maxLag, long checkMillis) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.tracker = tracker;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkMillis = checkMillis;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryReads = Counter.builder("datasource.routing.reads")
+                .tag("target", PRIMARY)
+                .description("Read-only transactions served by the primary")
+                .register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.routing.reads")
+                .tag("target", "replica")
+                .description("Read-only transactions served by a replica")
+                .register(meterRegistry);
+        for (String name : replicas.keySet()) {
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        // Until the first probe answers every read stays on the primary.
+        checkLag();
+        this.monitor = Thread.ofPlatform()
+                .name("replica-lag-monitor")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        List<String> candidates = healthy;
+        if (candidates.isEmpty() || tracker.currentUserWroteRecently()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    void checkLag() {
+        List<String> withinBounds = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            double lag = probe(replica.getValue());
+            lagSeconds.put(replica.getKey(), lag);
+            if (lag <= maxLagSeconds) {
+                withinBounds.add(replica.getKey());
+            }
+        }
+
+        if (!withinBounds.equals(healthy)) {
+            if (withinBounds.size() < replicas.size()) {
+                log.warn("Réplicas fora do limite de atraso de {}s: {}", maxLagSeconds, lagSeconds);
+            } else {
+                log.info("Todas as réplicas dentro do limite de atraso de {}s", maxLagSeconds);
+            }
+        }
+        healthy = List.copyOf(withinBounds);
+    }
+
+    @Override
+    public void close() throws Exception {
+        monitor.interrupt();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    // An unreachable replica reports NaN, which never compares as within bounds.
+    private double probe(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getDouble(1) : Double.NaN;
+        } catch (SQLException e) {
+            log.debug("Falha ao medir o atraso da réplica", e);
+            return Double.NaN;
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(checkMillis);
+                checkLag();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao verificar o atraso das réplicas", e);
+            }
+        }
+    }
+}
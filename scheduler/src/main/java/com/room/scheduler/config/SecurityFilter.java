@@ -1,27 +1,44 @@
 package com.room.scheduler.config;
 
-import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.dto.TokenClaims;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.User;
+import com.room.scheduler.service.PrincipalCache;
+import com.room.scheduler.service.TokenRevocationList;
 import com.room.scheduler.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final boolean stateless;
+    private final Timer principalTimer;
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    public SecurityFilter(TokenService tokenService, PrincipalCache principalCache,
+            TokenRevocationList revocationList, MeterRegistry meterRegistry,
+            @Value("${api.security.stateless}") boolean stateless) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+        this.stateless = stateless;
+        this.principalTimer = Timer.builder("auth.principal.lookup")
+                .description("Time to turn verified claims into the request principal")
+                .register(meterRegistry);
     }
 
     @Override
@@ -30,18 +47,37 @@ public class SecurityFilter extends OncePerRequestFilter {
         var token = this.recoverToken(request);
 
         if (token != null) {
-            var login = tokenService.validateToken(token);
-            if (!login.isEmpty()) {
-                UserDetails user = userRepository.findByEmail(login)
-                        .orElseThrow(() -> new RuntimeException("User not found"));
-                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+            TokenClaims claims = tokenService.verify(token);
+            if (claims != null) {
+                principalTimer.record(() -> resolvePrincipal(claims)).ifPresent(user -> {
+                    var authentication = new UsernamePasswordAuthenticationToken(user, null, user.authorities());
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         }
         filterChain.doFilter(request, response);
     }
 
+    private Optional<AuthenticatedUser> resolvePrincipal(TokenClaims claims) {
+        // Tokens issued before the uid claim existed still go through the user table.
+        if (stateless && claims.userId() != null) {
+            if (revocationList.isRevoked(claims.userId(), claims.issuedAt())) {
+                return Optional.empty();
+            }
+            return activeUser(claims).map(user -> new AuthenticatedUser(claims.userId(), claims.name(),
+                    claims.subject(), claims.role()));
+        }
+
+        return activeUser(claims).map(AuthenticatedUser::from);
+    }
+
+    // The revocation list only knows what this instance has seen since it started; the persisted
+    // cut-off, read through the principal cache, also covers restarts and deleted users.
+    private Optional<User> activeUser(TokenClaims claims) {
+        return principalCache.findByEmail(claims.subject()).filter(user -> !user.revokes(claims.issuedAt()));
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (authHeader == null)
@@ -0,0 +1,28 @@
+package com.room.scheduler.controller;
+
+import com.room.scheduler.dto.UtilizationGranularity;
+import com.room.scheduler.dto.UtilizationReport;
+import com.room.scheduler.service.AnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/utilization")
+    public UtilizationReport utilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) Long roomId) {
+        return analyticsService.utilization(from, to, UtilizationGranularity.from(granularity), roomId);
+    }
+}
@@ -12,6 +12,7 @@ import com.room.scheduler.dto.LoginResponse;
 import com.room.scheduler.dto.RegisterRequest;
 import com.room.scheduler.model.User;
 import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.service.PasswordHashingExecutor;
 import com.room.scheduler.service.TokenService;
 
 import jakarta.validation.Valid;
@@ -19,6 +20,8 @@ import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -26,42 +29,49 @@ public class AuthController {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
 
     public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository,
-            TokenService tokenService, PasswordEncoder passwordEncoder) {
+            TokenService tokenService, PasswordEncoder passwordEncoder, PasswordHashingExecutor hashingExecutor) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.tokenService = tokenService;
         this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
     }
 
+    // Both endpoints hand the BCrypt work to the hashing pool and release the request thread.
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest data) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody @Valid LoginRequest data) {
         var usernamePassword = new UsernamePasswordAuthenticationToken(data.email(), data.password());
-        var auth = this.authenticationManager.authenticate(usernamePassword);
-        var token = tokenService.generateToken((User) auth.getPrincipal());
 
-        return ResponseEntity.ok(new LoginResponse(token));
+        return hashingExecutor.submit(() -> this.authenticationManager.authenticate(usernamePassword))
+                .thenApply(auth -> {
+                    var token = tokenService.generateToken((User) auth.getPrincipal());
+
+                    return ResponseEntity.ok(new LoginResponse(token));
+                });
     }
 
     @PostMapping("/register")
-    public ResponseEntity<LoginResponse> register(@RequestBody @Valid RegisterRequest data) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> register(@RequestBody @Valid RegisterRequest data) {
         if (this.userRepository.findByEmail(data.email()).isPresent()) {
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
 
-        String encryptedPassword = passwordEncoder.encode(data.password());
-
-        User newUser = new User();
-        newUser.setName(data.name());
-        newUser.setEmail(data.email());
-        newUser.setPassword(encryptedPassword);
-        newUser.setRole(data.role() != null ? data.role() : "USER");
+        return hashingExecutor.submit(() -> passwordEncoder.encode(data.password()))
+                .thenApply(encryptedPassword -> {
+                    User newUser = new User();
+                    newUser.setName(data.name());
+                    newUser.setEmail(data.email());
+                    newUser.setPassword(encryptedPassword);
+                    newUser.setRole(data.role() != null ? data.role() : "USER");
 
-        this.userRepository.save(newUser);
+                    this.userRepository.save(newUser);
 
-        var token = tokenService.generateToken(newUser);
+                    var token = tokenService.generateToken(newUser);
 
-        return ResponseEntity.ok(new LoginResponse(token));
+                    return ResponseEntity.ok(new LoginResponse(token));
+                });
     }
 }
@@ -1,47 +1,163 @@
 package com.room.scheduler.controller;
 
+import com.room.scheduler.dto.BookingBatchItemStatus;
+import com.room.scheduler.dto.BookingBatchMode;
+import com.room.scheduler.dto.BookingBatchRequest;
+import com.room.scheduler.dto.BookingBatchResponse;
+import com.room.scheduler.dto.BookingExportFormat;
+import com.room.scheduler.dto.BookingFilter;
+import com.room.scheduler.dto.BookingHoldResponse;
+import com.room.scheduler.dto.BookingOrder;
+import com.room.scheduler.dto.BookingPage;
 import com.room.scheduler.dto.BookingRequest;
 import com.room.scheduler.dto.BookingResponse;
-import com.room.scheduler.model.Booking;
-import com.room.scheduler.model.User;
+import com.room.scheduler.dto.BookingSeriesRequest;
+import com.room.scheduler.dto.BookingSeriesResponse;
+import com.room.scheduler.dto.BookingSource;
+import com.room.scheduler.dto.BulkCancellationRequest;
+import com.room.scheduler.dto.CancellationResponse;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.service.BookingEventStream;
+import com.room.scheduler.service.BookingExportService;
 import com.room.scheduler.service.BookingService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/bookings")
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
+    private final BookingEventStream bookingEventStream;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, BookingExportService bookingExportService,
+            BookingEventStream bookingEventStream) {
         this.bookingService = bookingService;
+        this.bookingExportService = bookingExportService;
+        this.bookingEventStream = bookingEventStream;
     }
 
     @PostMapping
-    public Booking create(@RequestBody @Valid BookingRequest request) {
-        return bookingService.createBooking(request);
+    public BookingResponse create(@RequestBody @Valid BookingRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.createBooking(request, user);
+    }
+
+    @PostMapping("/holds")
+    public BookingHoldResponse createHold(@RequestBody @Valid BookingRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.createHold(request, user);
+    }
+
+    @PostMapping("/holds/{id}/confirm")
+    public BookingResponse confirmHold(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.confirmHold(id, user);
+    }
+
+    @DeleteMapping("/holds/{id}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+        bookingService.releaseHold(id, user);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BookingBatchResponse> createBatch(@RequestBody @Valid BookingBatchRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        BookingBatchResponse response = bookingService.createBatch(request, user);
+        boolean rolledBack = response.mode() == BookingBatchMode.ALL_OR_NOTHING && response.rejected() > 0;
+        boolean onlyInvalid = response.results().stream()
+                .filter(result -> result.status() != BookingBatchItemStatus.SKIPPED)
+                .filter(result -> result.status() != BookingBatchItemStatus.CREATED)
+                .allMatch(result -> result.status() == BookingBatchItemStatus.INVALID);
+
+        HttpStatus status = !rolledBack ? HttpStatus.OK : onlyInvalid ? HttpStatus.BAD_REQUEST : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/series")
+    public ResponseEntity<BookingSeriesResponse> createSeries(@RequestBody @Valid BookingSeriesRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        BookingSeriesResponse response = bookingService.createSeries(request, user);
+
+        return ResponseEntity.status(response.seriesId() != null ? HttpStatus.OK : HttpStatus.CONFLICT)
+                .body(response);
+    }
+
+    @DeleteMapping("/series/{seriesId}")
+    public CancellationResponse cancelSeries(@PathVariable Long seriesId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.cancelSeries(seriesId, user);
+    }
+
+    @PostMapping("/cancel-bulk")
+    public CancellationResponse cancelBulk(@RequestBody BulkCancellationRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.cancelBulk(request, user);
     }
 
     @GetMapping
-    public List<BookingResponse> listAll() {
-        return bookingService.listAll();
+    public BookingPage listAll(
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "live") String source,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return bookingService.listAll(new BookingFilter(roomId, userId, from, to), BookingSource.from(source),
+                BookingOrder.from(order), cursor, limit);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "live") String source) {
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        BookingSource bookingSource = BookingSource.from(source);
+        String filename = bookingSource == BookingSource.HISTORY ? "bookings-history." : "bookings.";
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename + exportFormat.extension())
+                .body(out -> bookingExportService.export(exportFormat, bookingSource, from, to, out));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return bookingEventStream.subscribe(user, roomId, userId, lastEventId);
     }
 
     @GetMapping("/my")
-    public List<BookingResponse> listMyBookings() {
-        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return bookingService.listMyBookings(user);
+    public BookingPage listMyBookings(
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return bookingService.listMyBookings(user, new BookingFilter(roomId, null, from, to), cursor, limit);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> cancel(@PathVariable Long id) {
-        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
+    public ResponseEntity<Void> cancel(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
         bookingService.cancelBooking(id, user);
 
         return ResponseEntity.noContent().build();
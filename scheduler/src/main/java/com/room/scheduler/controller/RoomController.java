@@ -1,13 +1,22 @@
 package com.room.scheduler.controller;
 
+import com.room.scheduler.dto.RoomDeletionCascade;
+import com.room.scheduler.dto.RoomDeletionResponse;
 import com.room.scheduler.dto.RoomRequest;
+import com.room.scheduler.dto.RoomSchedule;
 import com.room.scheduler.model.Room;
+import com.room.scheduler.service.RoomCatalog;
 import com.room.scheduler.service.RoomService;
 import jakarta.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,9 +28,35 @@ public class RoomController {
         this.roomService = roomService;
     }
 
+    // Serves the precomputed catalog bytes; clients revalidate with If-None-Match and get 304s.
     @GetMapping
-    public List<Room> listAll() {
-        return roomService.listAll();
+    public ResponseEntity<byte[]> listAll(WebRequest webRequest) {
+        RoomCatalog.Snapshot catalog = roomService.catalog();
+        if (webRequest.checkNotModified(catalog.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.etag())
+                .body(catalog.json());
+    }
+
+    @GetMapping("/available")
+    public List<Room> listAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1") int minCapacity) {
+        return roomService.listAvailable(from, to, minCapacity);
+    }
+
+    @GetMapping("/{id}/schedule")
+    public RoomSchedule schedule(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return roomService.schedule(id, from, to);
     }
 
     @PostMapping
@@ -30,9 +65,8 @@ public class RoomController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        roomService.delete(id);
-        return ResponseEntity.noContent().build();
+    public RoomDeletionResponse delete(@PathVariable Long id, @RequestParam(required = false) String cascade) {
+        return roomService.delete(id, cascade != null ? RoomDeletionCascade.from(cascade) : null);
     }
 
     @PutMapping("/{id}")
@@ -2,23 +2,36 @@ package com.room.scheduler.controller;
 
 import com.room.scheduler.dto.UpdateRoleRequest;
 import com.room.scheduler.dto.UserResponse;
+import com.room.scheduler.event.UsersChangedEvent;
 import com.room.scheduler.model.User;
 import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.service.PrincipalCache;
+import com.room.scheduler.service.TokenRevocationList;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, PrincipalCache principalCache,
+            TokenRevocationList revocationList, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+        this.eventPublisher = eventPublisher;
     }
 
     @GetMapping
@@ -30,7 +43,11 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        Optional<User> user = userRepository.findById(id);
         userRepository.deleteById(id);
+        user.ifPresent(deleted -> principalCache.evict(deleted.getEmail()));
+        Instant revokedAt = revocationList.revoke(id);
+        eventPublisher.publishEvent(new UsersChangedEvent(id, user.map(User::getEmail).orElse(null), revokedAt));
         return ResponseEntity.noContent().build();
     }
 
@@ -39,8 +56,12 @@ public class UserController {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
+        Instant revokedAt = revocationList.revoke(user.getId());
         user.setRole(request.role());
+        user.setTokensValidAfter(revokedAt);
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
+        eventPublisher.publishEvent(new UsersChangedEvent(user.getId(), user.getEmail(), revokedAt));
 
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,8 @@
+package com.room.scheduler.dto;
+
+public record BookingBatchItemResult(
+        int index,
+        BookingBatchItemStatus status,
+        Long bookingId,
+        String error) {
+}
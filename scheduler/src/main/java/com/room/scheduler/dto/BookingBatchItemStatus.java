@@ -0,0 +1,9 @@
+package com.room.scheduler.dto;
+
+public enum BookingBatchItemStatus {
+    CREATED,
+    INVALID,
+    ROOM_NOT_FOUND,
+    CONFLICT,
+    SKIPPED
+}
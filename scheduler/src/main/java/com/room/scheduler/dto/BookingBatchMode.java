@@ -0,0 +1,6 @@
+package com.room.scheduler.dto;
+
+public enum BookingBatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,18 @@
+package com.room.scheduler.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BookingBatchRequest {
+    @NotEmpty(message = "Informe ao menos uma reserva")
+    @Size(max = 5000, message = "O lote pode ter no máximo 5000 reservas")
+    private List<@Valid @NotNull BookingRequest> bookings;
+
+    private BookingBatchMode mode = BookingBatchMode.ALL_OR_NOTHING;
+}
@@ -0,0 +1,10 @@
+package com.room.scheduler.dto;
+
+import java.util.List;
+
+public record BookingBatchResponse(
+        BookingBatchMode mode,
+        int created,
+        int rejected,
+        List<BookingBatchItemResult> results) {
+}
@@ -0,0 +1,33 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record BookingCursor(LocalDateTime startAt, Long id) {
+
+    public static BookingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new BookingCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+        }
+    }
+
+    public static BookingCursor after(BookingResponse booking) {
+        return new BookingCursor(booking.startAt(), booking.id());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum BookingExportFormat {
+    CSV(MediaType.parseMediaType("text/csv"), "csv"),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    BookingExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static BookingExportFormat from(String value) {
+        for (BookingExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Formato de exportação inválido: use csv ou ndjson");
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,10 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public record BookingFilter(
+        Long roomId,
+        Long userId,
+        LocalDateTime from,
+        LocalDateTime to) {
+}
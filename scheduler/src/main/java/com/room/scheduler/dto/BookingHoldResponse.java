@@ -0,0 +1,12 @@
+package com.room.scheduler.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public record BookingHoldResponse(
+        Long id,
+        Long roomId,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        Instant expiresAt) {
+}
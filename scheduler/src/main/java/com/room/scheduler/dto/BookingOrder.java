@@ -0,0 +1,18 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum BookingOrder {
+    ASC,
+    DESC;
+
+    public static BookingOrder from(String value) {
+        for (BookingOrder order : values()) {
+            if (order.name().equalsIgnoreCase(value)) {
+                return order;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ordem inválida: use asc ou desc");
+    }
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.dto;
+
+import java.util.List;
+
+public record BookingPage(List<BookingResponse> items, String nextCursor) {
+}
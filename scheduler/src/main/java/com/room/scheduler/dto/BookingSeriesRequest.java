@@ -0,0 +1,37 @@
+package com.room.scheduler.dto;
+
+import com.room.scheduler.model.RecurrenceFrequency;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+public class BookingSeriesRequest {
+    @NotNull(message = "O ID da sala é obrigatório")
+    private Long roomId;
+
+    @NotNull(message = "Data de início obrigatória")
+    @Future(message = "A data deve ser no futuro")
+    private LocalDateTime startAt;
+
+    @NotNull(message = "Data de fim obrigatória")
+    @Future(message = "A data deve ser no futuro")
+    private LocalDateTime endAt;
+
+    @NotNull(message = "A frequência é obrigatória")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "O intervalo deve ser de pelo menos 1")
+    private Integer interval = 1;
+
+    private LocalDate until;
+
+    @Min(value = 1, message = "A série deve ter pelo menos 1 ocorrência")
+    @Max(value = 500, message = "A série pode ter no máximo 500 ocorrências")
+    private Integer count;
+}
@@ -0,0 +1,9 @@
+package com.room.scheduler.dto;
+
+import java.util.List;
+
+public record BookingSeriesResponse(
+        Long seriesId,
+        int created,
+        List<BookingBatchItemResult> occurrences) {
+}
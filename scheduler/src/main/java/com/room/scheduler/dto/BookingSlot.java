@@ -0,0 +1,22 @@
+package com.room.scheduler.dto;
+
+import com.room.scheduler.model.Booking;
+
+import java.time.LocalDateTime;
+
+public record BookingSlot(
+        Long id,
+        Long roomId,
+        Long userId,
+        LocalDateTime startAt,
+        LocalDateTime endAt) {
+
+    public static BookingSlot from(Booking booking) {
+        return new BookingSlot(
+                booking.getId(),
+                booking.getRoom().getId(),
+                booking.getUser().getId(),
+                booking.getStartAt(),
+                booking.getEndAt());
+    }
+}
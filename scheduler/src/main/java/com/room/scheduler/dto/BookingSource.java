@@ -0,0 +1,18 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum BookingSource {
+    LIVE,
+    HISTORY;
+
+    public static BookingSource from(String value) {
+        for (BookingSource source : values()) {
+            if (source.name().equalsIgnoreCase(value)) {
+                return source;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Origem inválida: use live ou history");
+    }
+}
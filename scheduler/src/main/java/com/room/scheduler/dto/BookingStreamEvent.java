@@ -0,0 +1,34 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public record BookingStreamEvent(
+        long id,
+        String type,
+        Long bookingId,
+        Long roomId,
+        Long userId,
+        LocalDateTime startAt,
+        LocalDateTime endAt) {
+
+    public static final String CREATED = "booking.created";
+    public static final String CANCELLED = "booking.cancelled";
+    public static final String ROOMS_CHANGED = "rooms.changed";
+
+    public static BookingStreamEvent of(long id, String type, BookingSlot slot) {
+        return new BookingStreamEvent(id, type, slot.id(), slot.roomId(), slot.userId(), slot.startAt(),
+                slot.endAt());
+    }
+
+    // Room changes carry no room or user, so they reach every subscriber whatever the filter.
+    public boolean matches(Long roomFilter, Long userFilter) {
+        if (type.equals(ROOMS_CHANGED)) {
+            return true;
+        }
+        return (roomFilter == null || roomFilter.equals(roomId)) && (userFilter == null || userFilter.equals(userId));
+    }
+
+    public BookingStreamEvent withoutUser() {
+        return new BookingStreamEvent(id, type, bookingId, roomId, null, startAt, endAt);
+    }
+}
@@ -0,0 +1,13 @@
+package com.room.scheduler.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BulkCancellationRequest {
+    private Long roomId;
+    private Long userId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
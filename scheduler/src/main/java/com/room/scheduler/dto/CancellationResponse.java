@@ -0,0 +1,4 @@
+package com.room.scheduler.dto;
+
+public record CancellationResponse(int cancelled) {
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDate;
+
+public record DailyOccupancy(LocalDate date, int busyMinutes, double percent) {
+}
@@ -0,0 +1,18 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum RoomDeletionCascade {
+    FUTURE,
+    ALL;
+
+    public static RoomDeletionCascade from(String value) {
+        for (RoomDeletionCascade cascade : values()) {
+            if (cascade.name().equalsIgnoreCase(value)) {
+                return cascade;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cascata inválida: use future ou all");
+    }
+}
@@ -0,0 +1,12 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record RoomSchedule(
+        Long roomId,
+        LocalDateTime from,
+        LocalDateTime to,
+        List<ScheduleInterval> busy,
+        List<DailyOccupancy> days) {
+}
@@ -0,0 +1,11 @@
+package com.room.scheduler.dto;
+
+import java.util.List;
+
+public record RoomUtilization(
+        Long roomId,
+        String roomName,
+        long bookedMinutes,
+        double percent,
+        List<UtilizationBucket> buckets) {
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public record ScheduleInterval(LocalDateTime startAt, LocalDateTime endAt) {
+}
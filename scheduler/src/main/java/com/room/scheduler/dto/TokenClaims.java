@@ -0,0 +1,12 @@
+package com.room.scheduler.dto;
+
+import java.time.Instant;
+
+public record TokenClaims(
+        String subject,
+        Long userId,
+        String name,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt) {
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public record UtilizationBucket(LocalDateTime start, int bookedMinutes, double percent) {
+}
@@ -0,0 +1,18 @@
+package com.room.scheduler.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum UtilizationGranularity {
+    HOUR,
+    DAY;
+
+    public static UtilizationGranularity from(String value) {
+        for (UtilizationGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Granularidade inválida: use hour ou day");
+    }
+}
@@ -0,0 +1,11 @@
+package com.room.scheduler.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record UtilizationReport(
+        LocalDateTime from,
+        LocalDateTime to,
+        UtilizationGranularity granularity,
+        List<RoomUtilization> rooms) {
+}
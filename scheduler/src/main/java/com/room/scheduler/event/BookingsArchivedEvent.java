@@ -0,0 +1,8 @@
+package com.room.scheduler.event;
+
+import com.room.scheduler.dto.BookingSlot;
+
+import java.util.List;
+
+public record BookingsArchivedEvent(List<BookingSlot> slots) {
+}
@@ -0,0 +1,27 @@
+package com.room.scheduler.event;
+
+import com.room.scheduler.dto.BookingSlot;
+
+import java.time.Instant;
+import java.util.List;
+
+// The wire format of the invalidation bus; sequence is per origin and has no gaps unless a message was lost.
+public record ClusterEvent(
+        String origin,
+        long sequence,
+        Type type,
+        List<BookingSlot> slots,
+        Long userId,
+        String email,
+        Instant revokedAt) {
+
+    public enum Type {
+        BOOKINGS_CREATED,
+        BOOKINGS_CANCELLED,
+        BOOKINGS_ARCHIVED,
+        ROOMS_CHANGED,
+        USER_CHANGED,
+        HOLD_PLACED,
+        HOLD_RELEASED
+    }
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.event;
+
+import com.room.scheduler.dto.BookingSlot;
+
+public record HoldReleasedEvent(BookingSlot slot) {
+}
@@ -0,0 +1,4 @@
+package com.room.scheduler.event;
+
+public record RoomsChangedEvent() {
+}
@@ -0,0 +1,6 @@
+package com.room.scheduler.event;
+
+import java.time.Instant;
+
+public record UsersChangedEvent(Long userId, String email, Instant revokedAt) {
+}
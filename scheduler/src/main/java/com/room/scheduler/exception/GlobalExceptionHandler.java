@@ -1,5 +1,6 @@
 package com.room.scheduler.exception;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -33,4 +34,13 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(response, ex.getStatusCode());
     }
+
+    // Repeatable-read transactions abort when a row they target changes underneath them.
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Map<String, String>> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Os dados mudaram durante a operação, tente novamente");
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
 }
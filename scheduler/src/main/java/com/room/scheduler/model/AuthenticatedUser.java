@@ -0,0 +1,29 @@
+package com.room.scheduler.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+public record AuthenticatedUser(Long id, String name, String email, String role) {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(String role) {
+        if ("ADMIN".equals(role)) {
+            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"));
+        } else {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return authoritiesOf(role);
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+}
@@ -2,14 +2,20 @@ package com.room.scheduler.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tb_bookings")
 @Data
 public class Booking {
+    // Bounding the length lets range queries on start_at prune the monthly partitions from both sides.
+    public static final Duration MAX_DURATION = Duration.ofDays(31);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "tb_bookings_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,4 +31,7 @@ public class Booking {
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    @Column(name = "series_id")
+    private Long seriesId;
 }
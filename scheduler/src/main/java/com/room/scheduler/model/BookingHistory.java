@@ -0,0 +1,45 @@
+package com.room.scheduler.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Rows are written only by BookingArchiver's set-based INSERT ... SELECT. Room and user
+// names are copied in, so history still reads correctly after a room or user is removed.
+@Entity
+@Immutable
+@Table(name = "tb_bookings_history")
+@Data
+public class BookingHistory {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private String roomName;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String userName;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,12 @@
+package com.room.scheduler.model;
+
+import java.time.LocalDateTime;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY;
+
+    public LocalDateTime advance(LocalDateTime dateTime, int interval) {
+        return this == DAILY ? dateTime.plusDays(interval) : dateTime.plusWeeks(interval);
+    }
+}
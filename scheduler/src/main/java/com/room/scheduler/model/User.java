@@ -3,11 +3,10 @@ package com.room.scheduler.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
-import java.util.List;
 
 @Entity
 @Table(name = "tb_users")
@@ -29,13 +28,16 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String role;
 
+    // Set when the user's tokens are revoked; see TokenRevocationList for the second precision.
+    private Instant tokensValidAfter;
+
+    public boolean revokes(Instant issuedAt) {
+        return tokensValidAfter != null && (issuedAt == null || !issuedAt.isAfter(tokensValidAfter));
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        if (this.role.equals("ADMIN")) {
-            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"));
-        } else {
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
-        }
+        return AuthenticatedUser.authoritiesOf(this.role);
     }
 
     @Override
@@ -0,0 +1,82 @@
+package com.room.scheduler.repository;
+
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.model.BookingHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface BookingHistoryRepository extends JpaRepository<BookingHistory, Long> {
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(h.id, h.roomName, h.userName, h.userEmail,
+                    h.startAt, h.endAt)
+                FROM BookingHistory h
+                WHERE (:roomId IS NULL OR h.roomId = :roomId)
+                AND (:userId IS NULL OR h.userId = :userId)
+                AND (:from IS NULL OR h.endAt > :from)
+                AND (:to IS NULL OR h.startAt < :to)
+                AND (:cursorStart IS NULL OR h.startAt > :cursorStart
+                    OR (h.startAt = :cursorStart AND h.id > :cursorId))
+                ORDER BY h.startAt, h.id
+            """)
+    List<BookingResponse> findPageAscending(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(h.id, h.roomName, h.userName, h.userEmail,
+                    h.startAt, h.endAt)
+                FROM BookingHistory h
+                WHERE (:roomId IS NULL OR h.roomId = :roomId)
+                AND (:userId IS NULL OR h.userId = :userId)
+                AND (:from IS NULL OR h.endAt > :from)
+                AND (:to IS NULL OR h.startAt < :to)
+                AND (:cursorStart IS NULL OR h.startAt < :cursorStart
+                    OR (h.startAt = :cursorStart AND h.id < :cursorId))
+                ORDER BY h.startAt DESC, h.id DESC
+            """)
+    List<BookingResponse> findPageDescending(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingSlot(h.id, h.roomId, h.userId, h.startAt, h.endAt)
+                FROM BookingHistory h
+            """)
+    List<BookingSlot> findAllSlots();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(h.id, h.roomName, h.userName, h.userEmail,
+                    h.startAt, h.endAt)
+                FROM BookingHistory h
+                WHERE (:from IS NULL OR h.endAt > :from)
+                AND (:to IS NULL OR h.startAt < :to)
+                ORDER BY h.startAt, h.id
+            """)
+    Stream<BookingResponse> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
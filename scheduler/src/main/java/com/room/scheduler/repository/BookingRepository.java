@@ -1,29 +1,242 @@
 package com.room.scheduler.repository;
 
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSlot;
 import com.room.scheduler.model.Booking;
 
 import java.time.LocalDateTime;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.room.scheduler.model.User;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    default boolean existsOverlappingBooking(Long roomId, LocalDateTime startAt, LocalDateTime endAt) {
+        return existsOverlappingBookingSince(roomId, startAt.minus(Booking.MAX_DURATION), startAt, endAt);
+    }
+
+    // The lower bound on startAt is implied by the maximum duration and lets Postgres skip
+    // every partition that ends before it.
     @Query("""
                 SELECT COUNT(b) > 0
                 FROM Booking b
                 WHERE b.room.id = :roomId
+                AND b.startAt >= :earliestStart
                 AND (b.startAt < :endAt AND b.endAt > :startAt)
             """)
-    boolean existsOverlappingBooking(
+    boolean existsOverlappingBookingSince(
             @Param("roomId") Long roomId,
+            @Param("earliestStart") LocalDateTime earliestStart,
             @Param("startAt") LocalDateTime startAt,
             @Param("endAt") LocalDateTime endAt);
 
-    List<Booking> findByUserOrderByStartAtDesc(User user);
+    // Unfiltered pages take the plain keyset queries below: behind the catch-all predicates the
+    // planner cannot see the seek and would scan and sort the whole table for every page.
+    default List<BookingResponse> findPageAscending(Long roomId, Long userId, LocalDateTime from, LocalDateTime to,
+            LocalDateTime cursorStart, Long cursorId, Limit limit) {
+        if (roomId != null || userId != null || from != null || to != null) {
+            return findFilteredPageAscending(roomId, userId, from, to, cursorStart, cursorId, limit);
+        }
+        return cursorStart == null ? findFirstPageAscending(limit)
+                : findPageAscendingAfter(cursorStart, cursorId, limit);
+    }
+
+    default List<BookingResponse> findPageDescending(Long roomId, Long userId, LocalDateTime from, LocalDateTime to,
+            LocalDateTime cursorStart, Long cursorId, Limit limit) {
+        if (roomId != null || userId != null || from != null || to != null) {
+            return findFilteredPageDescending(roomId, userId, from, to, cursorStart, cursorId, limit);
+        }
+        return cursorStart == null ? findFirstPageDescending(limit)
+                : findPageDescendingBefore(cursorStart, cursorId, limit);
+    }
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                ORDER BY b.startAt, b.id
+            """)
+    List<BookingResponse> findFirstPageAscending(Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                WHERE (b.startAt, b.id) > (:cursorStart, :cursorId)
+                ORDER BY b.startAt, b.id
+            """)
+    List<BookingResponse> findPageAscendingAfter(
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                ORDER BY b.startAt DESC, b.id DESC
+            """)
+    List<BookingResponse> findFirstPageDescending(Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                WHERE (b.startAt, b.id) < (:cursorStart, :cursorId)
+                ORDER BY b.startAt DESC, b.id DESC
+            """)
+    List<BookingResponse> findPageDescendingBefore(
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                WHERE (:roomId IS NULL OR r.id = :roomId)
+                AND (:userId IS NULL OR u.id = :userId)
+                AND (:from IS NULL OR b.endAt > :from)
+                AND (:to IS NULL OR b.startAt < :to)
+                AND (:cursorStart IS NULL OR b.startAt > :cursorStart
+                    OR (b.startAt = :cursorStart AND b.id > :cursorId))
+                ORDER BY b.startAt, b.id
+            """)
+    List<BookingResponse> findFilteredPageAscending(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                WHERE (:roomId IS NULL OR r.id = :roomId)
+                AND (:userId IS NULL OR u.id = :userId)
+                AND (:from IS NULL OR b.endAt > :from)
+                AND (:to IS NULL OR b.startAt < :to)
+                AND (:cursorStart IS NULL OR b.startAt < :cursorStart
+                    OR (b.startAt = :cursorStart AND b.id < :cursorId))
+                ORDER BY b.startAt DESC, b.id DESC
+            """)
+    List<BookingResponse> findFilteredPageDescending(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingSlot(b.id, b.room.id, b.user.id, b.startAt, b.endAt)
+                FROM Booking b
+            """)
+    List<BookingSlot> findAllSlots();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingResponse(b.id, r.name, u.name, u.email, b.startAt, b.endAt)
+                FROM Booking b
+                JOIN b.room r
+                JOIN b.user u
+                WHERE (:from IS NULL OR b.endAt > :from)
+                AND (:to IS NULL OR b.startAt < :to)
+                ORDER BY b.startAt, b.id
+            """)
+    Stream<BookingResponse> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    default List<BookingSlot> findSlotsOverlapping(Collection<Long> roomIds, LocalDateTime startAt,
+            LocalDateTime endAt) {
+        return findSlotsOverlappingSince(roomIds, startAt.minus(Booking.MAX_DURATION), startAt, endAt);
+    }
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingSlot(b.id, b.room.id, b.user.id, b.startAt, b.endAt)
+                FROM Booking b
+                WHERE b.room.id IN :roomIds
+                AND b.startAt >= :earliestStart
+                AND (b.startAt < :endAt AND b.endAt > :startAt)
+            """)
+    List<BookingSlot> findSlotsOverlappingSince(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("earliestStart") LocalDateTime earliestStart,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt);
+
+    // Locked so a concurrent single cancellation waits and then finds its row gone.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingSlot(b.id, b.room.id, b.user.id, b.startAt, b.endAt)
+                FROM Booking b
+                WHERE b.seriesId = :seriesId
+                AND b.startAt > :from
+            """)
+    List<BookingSlot> findSeriesSlotsStartingAfter(@Param("seriesId") Long seriesId,
+            @Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("""
+                DELETE FROM Booking b
+                WHERE b.seriesId = :seriesId
+                AND b.startAt > :from
+            """)
+    int deleteSeriesStartingAfter(@Param("seriesId") Long seriesId, @Param("from") LocalDateTime from);
+
+    boolean existsByRoomId(Long roomId);
+
+    @Query("""
+                SELECT new com.room.scheduler.dto.BookingSlot(b.id, b.room.id, b.user.id, b.startAt, b.endAt)
+                FROM Booking b
+                WHERE (:roomId IS NULL OR b.room.id = :roomId)
+                AND (:userId IS NULL OR b.user.id = :userId)
+                AND (:from IS NULL OR b.startAt >= :from)
+                AND (:to IS NULL OR b.startAt < :to)
+            """)
+    List<BookingSlot> findSlotsStartingBetween(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Same filter as findSlotsStartingBetween, as one statement: no entity is loaded or cascaded.
+    @Modifying
+    @Query("""
+                DELETE FROM Booking b
+                WHERE (:roomId IS NULL OR b.room.id = :roomId)
+                AND (:userId IS NULL OR b.user.id = :userId)
+                AND (:from IS NULL OR b.startAt >= :from)
+                AND (:to IS NULL OR b.startAt < :to)
+            """)
+    int deleteStartingBetween(
+            @Param("roomId") Long roomId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
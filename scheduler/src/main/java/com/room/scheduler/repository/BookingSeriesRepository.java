@@ -0,0 +1,15 @@
+package com.room.scheduler.repository;
+
+import com.room.scheduler.model.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, Long> {
+    @Modifying
+    @Query("DELETE FROM BookingSeries s WHERE s.room.id = :roomId")
+    int deleteByRoomId(@Param("roomId") Long roomId);
+}
@@ -2,9 +2,24 @@ package com.room.scheduler.repository;
 
 import com.room.scheduler.model.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+    // Read-write on purpose: RoomCatalog reloads from here right after a room change commits,
+    // and a read-only transaction would be routed to a replica that may not have it yet.
+    @Override
+    @Transactional
+    List<Room> findAll();
+
+    @Modifying
+    @Query("DELETE FROM Room r WHERE r.id = :id")
+    int deleteRoom(@Param("id") Long id);
 }
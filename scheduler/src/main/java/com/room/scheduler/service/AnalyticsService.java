@@ -0,0 +1,85 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.RoomUtilization;
+import com.room.scheduler.dto.UtilizationBucket;
+import com.room.scheduler.dto.UtilizationGranularity;
+import com.room.scheduler.dto.UtilizationReport;
+import com.room.scheduler.model.Room;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AnalyticsService {
+    private static final Duration MAX_HOURLY_WINDOW = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_WINDOW = Duration.ofDays(366);
+
+    private final RoomUtilizationStore utilizationStore;
+    private final RoomCatalog roomCatalog;
+
+    public AnalyticsService(RoomUtilizationStore utilizationStore, RoomCatalog roomCatalog) {
+        this.utilizationStore = utilizationStore;
+        this.roomCatalog = roomCatalog;
+    }
+
+    // Answered from the running aggregates alone; the bookings table is never read here.
+    public UtilizationReport utilization(LocalDateTime from, LocalDateTime to, UtilizationGranularity granularity,
+            Long roomId) {
+        if (!to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O fim deve ser depois do início");
+        }
+
+        ChronoUnit unit = granularity == UtilizationGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        LocalDateTime start = from.truncatedTo(unit);
+        LocalDateTime end = to.truncatedTo(unit).equals(to) ? to : to.truncatedTo(unit).plus(1, unit);
+
+        Duration window = Duration.between(start, end);
+        if (granularity == UtilizationGranularity.HOUR && window.compareTo(MAX_HOURLY_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A granularidade por hora cobre no máximo 31 dias");
+        }
+        if (window.compareTo(MAX_DAILY_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A análise pode cobrir no máximo 366 dias");
+        }
+
+        List<Room> rooms = roomCatalog.rooms().stream()
+                .filter(room -> roomId == null || room.getId().equals(roomId))
+                .toList();
+        if (roomId != null && rooms.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        int bucketMinutes = (int) unit.getDuration().toMinutes();
+        List<RoomUtilization> result = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            int[] minutes = granularity == UtilizationGranularity.HOUR
+                    ? utilizationStore.hourlyMinutes(room.getId(), start, end)
+                    : utilizationStore.dailyMinutes(room.getId(), start.toLocalDate(), end.toLocalDate().minusDays(1));
+
+            // Empty buckets are left out so a sparse year stays small on the wire.
+            long total = 0;
+            List<UtilizationBucket> buckets = new ArrayList<>();
+            for (int i = 0; i < minutes.length; i++) {
+                if (minutes[i] > 0) {
+                    total += minutes[i];
+                    buckets.add(new UtilizationBucket(start.plus(i, unit), minutes[i],
+                            percent(minutes[i], bucketMinutes)));
+                }
+            }
+            result.add(new RoomUtilization(room.getId(), room.getName(), total, percent(total, window.toMinutes()),
+                    buckets));
+        }
+
+        return new UtilizationReport(start, end, granularity, result);
+    }
+
+    private static double percent(long minutes, long available) {
+        return Math.round(minutes * 1000.0 / available) / 10.0;
+    }
+}
@@ -1,17 +1,21 @@
 package com.room.scheduler.service;
 
+import com.room.scheduler.model.User;
 import com.room.scheduler.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class AuthorizationService implements UserDetailsService {
+public class AuthorizationService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public AuthorizationService(UserRepository userRepository) {
+    public AuthorizationService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -19,4 +23,15 @@ public class AuthorizationService implements UserDetailsService {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
     }
+
+    // Called by the authentication provider after a successful login whose stored hash
+    // uses a lower BCrypt cost than the configured one.
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = (User) user;
+        entity.setPassword(newPassword);
+        User saved = userRepository.save(entity);
+        principalCache.evict(saved.getEmail());
+        return saved;
+    }
 }
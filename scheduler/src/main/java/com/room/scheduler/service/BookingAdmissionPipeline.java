@@ -0,0 +1,559 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingBatchItemResult;
+import com.room.scheduler.dto.BookingBatchItemStatus;
+import com.room.scheduler.dto.BookingBatchMode;
+import com.room.scheduler.dto.BookingBatchResponse;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.dto.BookingSeriesResponse;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.BookingSeries;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.BookingSeriesRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class BookingAdmissionPipeline {
+    // Raised by the Postgres overlap constraints and trigger when another instance got there first.
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final BookingSeriesRepository seriesRepository;
+    private final UserRepository userRepository;
+    private final RoomIntervalIndex intervalIndex;
+    private final BookingHoldRegistry holdRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long timeoutMillis;
+    private final Stripe[] stripes;
+
+    public BookingAdmissionPipeline(BookingRepository bookingRepository, RoomRepository roomRepository,
+            BookingSeriesRepository seriesRepository, UserRepository userRepository,
+            RoomIntervalIndex intervalIndex, BookingHoldRegistry holdRegistry,
+            ApplicationEventPublisher eventPublisher, BookingMetrics metrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking.admission.stripes}") int stripeCount,
+            @Value("${booking.admission.queue-capacity}") int queueCapacity,
+            @Value("${booking.admission.batch-size}") int batchSize,
+            @Value("${booking.admission.timeout-ms}") long timeoutMillis) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.seriesRepository = seriesRepository;
+        this.userRepository = userRepository;
+        this.intervalIndex = intervalIndex;
+        this.holdRegistry = holdRegistry;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i, queueCapacity);
+        }
+    }
+
+    public Booking submit(BookingRequest request, AuthenticatedUser user) {
+        return submit(request, user, null);
+    }
+
+    // With a hold id the booking confirms that hold: it may take the held interval, and the hold
+    // is released once the booking commits.
+    public Booking submit(BookingRequest request, AuthenticatedUser user, Long holdId) {
+        PendingBooking pending = new PendingBooking(request, user, holdId, new AtomicBoolean(),
+                new CompletableFuture<>());
+
+        // Every request for a given room lands on the same stripe, so a single writer
+        // decides all of that room's conflicts and no row or table lock is needed.
+        Stripe stripe = stripes[stripeOf(request.getRoomId())];
+        if (!stripe.queue.offer(pending)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Muitas reservas em andamento, tente novamente");
+        }
+
+        try {
+            try {
+                return pending.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Only give up if the writer has not taken the booking yet; once it has, the insert
+                // may commit, and reporting a failure for it would be wrong.
+                if (pending.taken().compareAndSet(false, true)) {
+                    pending.result().cancel(false);
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Tempo esgotado ao processar a reserva");
+                }
+                return pending.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Reserva interrompida");
+        }
+    }
+
+    // Runs as the room's writer, so no booking can be admitted between the check and the hold.
+    public BookingHoldRegistry.Hold submitHold(BookingRequest request, AuthenticatedUser user) {
+        return exclusive(List.of(request.getRoomId()), () -> {
+            if (!roomRepository.existsById(request.getRoomId())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+            }
+            boolean booked = intervalIndex.isReady()
+                    ? intervalIndex.overlaps(request.getRoomId(), request.getStartAt(), request.getEndAt())
+                    : bookingRepository.existsOverlappingBooking(request.getRoomId(), request.getStartAt(),
+                            request.getEndAt());
+            if (booked || holdRegistry.overlaps(request.getRoomId(), request.getStartAt(), request.getEndAt(), null)) {
+                throw conflict();
+            }
+            return holdRegistry.place(request.getRoomId(), user, request.getStartAt(), request.getEndAt());
+        });
+    }
+
+    public BookingBatchResponse submitBatch(List<BookingRequest> requests, BookingBatchMode mode,
+            AuthenticatedUser user) {
+        Set<Long> roomIds = requests.stream()
+                .map(BookingRequest::getRoomId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        BookingBatchResponse response = overlapAsConflict(() -> exclusive(roomIds,
+                () -> transactionTemplate.execute(status -> admitBatch(requests, mode, user, null))));
+        recordAttempts(requests, response.results());
+        return response;
+    }
+
+    public BookingSeriesResponse submitSeries(Long roomId, BookingSeries series, List<BookingRequest> occurrences,
+            AuthenticatedUser user) {
+        BookingSeriesResponse outcome = overlapAsConflict(() -> exclusive(List.of(roomId),
+                () -> transactionTemplate.execute(status -> admitSeries(roomId, series, occurrences, user, status))));
+        recordAttempts(occurrences, outcome.occurrences());
+        return outcome;
+    }
+
+    // Runs as the room's writer with the occurrences row-locked, so neither an admission nor a
+    // single cancellation can slip between the read and the delete: the event lists exactly the
+    // rows removed.
+    public int cancelSeries(Long roomId, Long seriesId, LocalDateTime from) {
+        return exclusive(List.of(roomId), () -> transactionTemplate.execute(status -> {
+            List<BookingSlot> slots = bookingRepository.findSeriesSlotsStartingAfter(seriesId, from);
+            int cancelled = bookingRepository.deleteSeriesStartingAfter(seriesId, from);
+            if (!slots.isEmpty()) {
+                eventPublisher.publishEvent(new BookingsCancelledEvent(slots));
+            }
+            return cancelled;
+        }));
+    }
+
+    // Parks the writers of every stripe owning one of the rooms, so the work below sees
+    // and writes those rooms exactly as a writer would. Stripes are always taken in
+    // ascending order, which keeps two concurrent callers from deadlocking.
+    private <T> T exclusive(Collection<Long> roomIds, Supplier<T> work) {
+        int[] indexes = roomIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        List<StripeLease> leases = new ArrayList<>(indexes.length);
+        try {
+            for (int index : indexes) {
+                StripeLease lease = new StripeLease();
+                if (!stripes[index].queue.offer(lease, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Muitas reservas em andamento, tente novamente");
+                }
+                leases.add(lease);
+                if (!lease.awaitAcquired(timeoutMillis)) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Tempo esgotado ao processar a reserva");
+                }
+            }
+            return work.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Reserva interrompida");
+        } finally {
+            leases.forEach(StripeLease::release);
+        }
+    }
+
+    private int stripeOf(Long roomId) {
+        return Math.floorMod(roomId.hashCode(), stripes.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Stripe stripe : stripes) {
+            stripe.writer.interrupt();
+        }
+    }
+
+    private void writeBatch(List<PendingBooking> batch) {
+        List<Admission> admissions;
+        try {
+            admissions = metrics.time("transaction", () -> transactionTemplate.execute(status -> admit(batch)));
+        } catch (RuntimeException e) {
+            // One bad insert must not fail its neighbours: retry each request on its own.
+            if (batch.size() > 1) {
+                batch.forEach(pending -> writeBatch(List.of(pending)));
+            } else if (isOverlap(e)) {
+                metrics.attempt(batch.get(0).request().getRoomId(), false);
+                batch.get(0).result().completeExceptionally(conflict());
+            } else {
+                batch.get(0).result().completeExceptionally(e);
+            }
+            return;
+        }
+
+        // Attempts are only counted once the outcome is final, so a batch that failed and was
+        // retried item by item does not count its conflicts twice.
+        metrics.batchCommitted(batch.size());
+        for (Admission admission : admissions) {
+            Long roomId = admission.pending().request().getRoomId();
+            if (admission.booking() != null) {
+                metrics.attempt(roomId, true);
+                if (admission.pending().holdId() != null) {
+                    holdRegistry.release(admission.pending().holdId());
+                }
+            } else if (admission.error() instanceof ResponseStatusException e
+                    && e.getStatusCode() == HttpStatus.CONFLICT) {
+                metrics.attempt(roomId, false);
+            }
+        }
+        admissions.forEach(Admission::complete);
+    }
+
+    private List<Admission> admit(List<PendingBooking> batch) {
+        Map<Long, Room> rooms = new HashMap<>();
+        List<Booking> accepted = new ArrayList<>();
+        List<Admission> admissions = new ArrayList<>(batch.size());
+
+        for (PendingBooking pending : batch) {
+            try {
+                Booking booking = insert(pending, rooms, accepted);
+                accepted.add(booking);
+                admissions.add(new Admission(pending, booking, null));
+            } catch (ResponseStatusException e) {
+                admissions.add(new Admission(pending, null, e));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsCreatedEvent(accepted.stream().map(BookingSlot::from).toList()));
+        }
+        return admissions;
+    }
+
+    private Booking insert(PendingBooking pending, Map<Long, Room> rooms, List<Booking> accepted) {
+        BookingRequest request = pending.request();
+        if (pending.holdId() != null && holdRegistry.find(pending.holdId()).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.GONE, "A pré-reserva expirou");
+        }
+        if (holdRegistry.overlaps(request.getRoomId(), request.getStartAt(), request.getEndAt(), pending.holdId())) {
+            throw conflict();
+        }
+
+        // A hit in the index already proves the room exists, so most rejected attempts never reach the database.
+        if (intervalIndex.isReady() && metrics.time("index_check", () -> intervalIndex.overlaps(request.getRoomId(),
+                request.getStartAt(), request.getEndAt()) || overlapsAccepted(request, accepted))) {
+            throw conflict();
+        }
+
+        Room room = rooms.computeIfAbsent(request.getRoomId(), id -> metrics.time("room_lookup",
+                () -> roomRepository.findById(id)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"))));
+
+        // The index only short-circuits rejections; whatever it lets through is decided by the database.
+        if (metrics.time("overlap_check", () -> bookingRepository.existsOverlappingBooking(
+                room.getId(), request.getStartAt(), request.getEndAt()))) {
+            throw conflict();
+        }
+
+        Booking booking = new Booking();
+        booking.setRoom(room);
+        // A reference is enough for the foreign key; the principal already carries the user's data.
+        booking.setUser(userRepository.getReferenceById(pending.user().id()));
+        booking.setStartAt(request.getStartAt());
+        booking.setEndAt(request.getEndAt());
+
+        return metrics.time("insert", () -> bookingRepository.save(booking));
+    }
+
+    private BookingSeriesResponse admitSeries(Long roomId, BookingSeries series, List<BookingRequest> occurrences,
+            AuthenticatedUser user, TransactionStatus status) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
+        series.setRoom(room);
+        series.setUser(userRepository.getReferenceById(user.id()));
+        seriesRepository.save(series);
+
+        BookingBatchResponse response = admitBatch(occurrences, BookingBatchMode.ALL_OR_NOTHING, user, series.getId());
+        if (response.created() == 0) {
+            status.setRollbackOnly();
+            return new BookingSeriesResponse(null, 0, response.results());
+        }
+        return new BookingSeriesResponse(series.getId(), response.created(), response.results());
+    }
+
+    private BookingBatchResponse admitBatch(List<BookingRequest> requests, BookingBatchMode mode,
+            AuthenticatedUser user, Long seriesId) {
+        BookingBatchItemResult[] results = new BookingBatchItemResult[requests.size()];
+
+        Map<Long, Room> rooms = new HashMap<>();
+        Set<Long> roomIds = new HashSet<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (BookingRequest request : requests) {
+            if (hasValidDuration(request)) {
+                roomIds.add(request.getRoomId());
+                from = from == null || request.getStartAt().isBefore(from) ? request.getStartAt() : from;
+                to = to == null || request.getEndAt().isAfter(to) ? request.getEndAt() : to;
+            }
+        }
+        roomRepository.findAllById(roomIds).forEach(room -> rooms.put(room.getId(), room));
+
+        // Existing bookings and the batch itself share one scratch timeline per room. The existing
+        // ones always come from the database, which stays the authority even when the index is warm.
+        boolean indexed = intervalIndex.isReady();
+        Map<Long, RoomIntervalIndex.RoomTimeline> scratch = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            bookingRepository.findSlotsOverlapping(roomIds, from, to).forEach(slot -> scratch
+                    .computeIfAbsent(slot.roomId(), id -> new RoomIntervalIndex.RoomTimeline()).add(slot));
+        }
+
+        List<Booking> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        User owner = userRepository.getReferenceById(user.id());
+        for (int i = 0; i < requests.size(); i++) {
+            BookingRequest request = requests.get(i);
+            if (!hasValidDuration(request)) {
+                results[i] = rejected(i, BookingBatchItemStatus.INVALID,
+                        "Duração inválida: a reserva deve ter entre 15 minutos e 31 dias");
+                continue;
+            }
+
+            Room room = rooms.get(request.getRoomId());
+            if (room == null) {
+                results[i] = rejected(i, BookingBatchItemStatus.ROOM_NOT_FOUND, "Sala não encontrada");
+                continue;
+            }
+
+            RoomIntervalIndex.RoomTimeline timeline = scratch.computeIfAbsent(room.getId(),
+                    id -> new RoomIntervalIndex.RoomTimeline());
+            if ((indexed && intervalIndex.overlaps(room.getId(), request.getStartAt(), request.getEndAt()))
+                    || timeline.overlaps(request.getStartAt(), request.getEndAt())
+                    || holdRegistry.overlaps(room.getId(), request.getStartAt(), request.getEndAt(), null)) {
+                results[i] = rejected(i, BookingBatchItemStatus.CONFLICT,
+                        "Esta sala já está reservada para este horário");
+                continue;
+            }
+            timeline.add(new BookingSlot((long) -(i + 1), room.getId(), user.id(), request.getStartAt(),
+                    request.getEndAt()));
+
+            Booking booking = new Booking();
+            booking.setRoom(room);
+            booking.setUser(owner);
+            booking.setStartAt(request.getStartAt());
+            booking.setEndAt(request.getEndAt());
+            booking.setSeriesId(seriesId);
+            accepted.add(booking);
+            acceptedIndexes.add(i);
+        }
+
+        int rejectedCount = requests.size() - accepted.size();
+        if (mode == BookingBatchMode.ALL_OR_NOTHING && rejectedCount > 0) {
+            for (int i : acceptedIndexes) {
+                results[i] = new BookingBatchItemResult(i, BookingBatchItemStatus.SKIPPED, null, null);
+            }
+            return new BookingBatchResponse(mode, 0, rejectedCount, List.of(results));
+        }
+
+        // Ids come from the pooled sequence, so saveAll goes out as JDBC batches.
+        List<Booking> saved = bookingRepository.saveAll(accepted);
+        for (int k = 0; k < saved.size(); k++) {
+            int i = acceptedIndexes.get(k);
+            results[i] = new BookingBatchItemResult(i, BookingBatchItemStatus.CREATED, saved.get(k).getId(), null);
+        }
+
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsCreatedEvent(saved.stream().map(BookingSlot::from).toList()));
+        }
+        return new BookingBatchResponse(mode, saved.size(), rejectedCount, List.of(results));
+    }
+
+    // Field rules are enforced by Bean Validation on BookingRequest; only the duration, which spans
+    // two fields, is checked here so one bad item does not reject the whole batch request.
+    private boolean hasValidDuration(BookingRequest request) {
+        return request.getEndAt().isAfter(request.getStartAt().plusMinutes(15))
+                && !request.getEndAt().isAfter(request.getStartAt().plus(Booking.MAX_DURATION));
+    }
+
+    // Called after the transaction, from the results the caller receives: a rolled-back batch
+    // reports its accepted items as SKIPPED, which counts neither way.
+    private void recordAttempts(List<BookingRequest> requests, List<BookingBatchItemResult> results) {
+        for (BookingBatchItemResult result : results) {
+            Long roomId = requests.get(result.index()).getRoomId();
+            if (result.status() == BookingBatchItemStatus.CREATED) {
+                metrics.attempt(roomId, true);
+            } else if (result.status() == BookingBatchItemStatus.CONFLICT) {
+                metrics.attempt(roomId, false);
+            }
+        }
+    }
+
+    private BookingBatchItemResult rejected(int index, BookingBatchItemStatus status, String error) {
+        return new BookingBatchItemResult(index, status, null, error);
+    }
+
+    private boolean overlapsAccepted(BookingRequest request, List<Booking> accepted) {
+        for (Booking booking : accepted) {
+            if (booking.getRoom().getId().equals(request.getRoomId())
+                    && booking.getStartAt().isBefore(request.getEndAt())
+                    && booking.getEndAt().isAfter(request.getStartAt())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> T overlapAsConflict(Supplier<T> work) {
+        try {
+            return work.get();
+        } catch (DataIntegrityViolationException e) {
+            throw isOverlap(e) ? conflict() : e;
+        }
+    }
+
+    private static boolean isOverlap(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException violation
+                && violation.getMostSpecificCause() instanceof SQLException sql
+                && EXCLUSION_VIOLATION.equals(sql.getSQLState());
+    }
+
+    private ResponseStatusException conflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Esta sala já está reservada para este horário");
+    }
+
+    private sealed interface StripeTask permits PendingBooking, StripeLease {
+    }
+
+    private record PendingBooking(BookingRequest request, AuthenticatedUser user, Long holdId, AtomicBoolean taken,
+            CompletableFuture<Booking> result) implements StripeTask {
+    }
+
+    private static final class StripeLease implements StripeTask {
+        private final CountDownLatch acquired = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        void hold() throws InterruptedException {
+            acquired.countDown();
+            released.await();
+        }
+
+        boolean awaitAcquired(long timeoutMillis) throws InterruptedException {
+            return acquired.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    private record Admission(PendingBooking pending, Booking booking, RuntimeException error) {
+        void complete() {
+            if (error != null) {
+                pending.result().completeExceptionally(error);
+            } else {
+                pending.result().complete(booking);
+            }
+        }
+    }
+
+    private final class Stripe {
+        private final BlockingQueue<StripeTask> queue;
+        private final Thread writer;
+
+        Stripe(int index, int capacity) {
+            this.queue = new LinkedBlockingQueue<>(capacity);
+            this.writer = Thread.ofPlatform()
+                    .name("booking-writer-" + index)
+                    .daemon(true)
+                    .start(this::run);
+        }
+
+        private void run() {
+            List<StripeTask> tasks = new ArrayList<>(batchSize);
+            List<PendingBooking> batch = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    tasks.add(queue.take());
+                    // Whatever queued up while the previous batch was committing goes out in one transaction.
+                    queue.drainTo(tasks, batchSize - 1);
+
+                    for (StripeTask task : tasks) {
+                        if (task instanceof PendingBooking pending) {
+                            // Callers that already timed out were told it failed: skip them.
+                            if (pending.taken().compareAndSet(false, true)) {
+                                batch.add(pending);
+                            }
+                        } else if (task instanceof StripeLease lease) {
+                            flush(batch);
+                            lease.hold();
+                        }
+                    }
+                    flush(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    tasks.clear();
+                }
+            }
+        }
+
+        private void flush(List<PendingBooking> batch) {
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+}
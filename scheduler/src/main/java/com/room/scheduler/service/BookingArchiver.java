@@ -0,0 +1,179 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsArchivedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Moves bookings that ended before the retention cutoff into tb_bookings_history, one bounded
+// batch per short transaction with a pause in between, so live traffic keeps its locks and I/O.
+@Component
+public class BookingArchiver {
+    private static final Logger log = LoggerFactory.getLogger(BookingArchiver.class);
+
+    // start_at is bounded too so Postgres only scans the partitions old enough to hold candidates.
+    // Every instance runs the archiver: SKIP LOCKED hands each one a disjoint batch.
+    private static final String SELECT_BATCH = """
+            SELECT id, room_id, user_id, start_at, end_at
+            FROM tb_bookings
+            WHERE start_at < :cutoff AND end_at < :cutoff
+            ORDER BY start_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    // A room being deleted is archived without the batch's row locks, so both copies may meet
+    // rows the other one already moved and skip those ids instead of failing on the primary key.
+    private static final String COPY_BATCH = """
+            INSERT INTO tb_bookings_history
+                (id, room_id, room_name, user_id, user_name, user_email, start_at, end_at, series_id, archived_at)
+            SELECT b.id, b.room_id, r.name, b.user_id, u.name, u.email, b.start_at, b.end_at, b.series_id, :now
+            FROM tb_bookings b
+            JOIN tb_rooms r ON r.id = b.room_id
+            JOIN tb_users u ON u.id = b.user_id
+            WHERE b.id IN (:ids) AND b.start_at < :cutoff
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_BATCH = """
+            DELETE FROM tb_bookings
+            WHERE id IN (:ids) AND start_at < :cutoff
+            """;
+
+    private static final String SELECT_ROOM = """
+            SELECT id, room_id, user_id, start_at, end_at
+            FROM tb_bookings
+            WHERE room_id = :roomId AND start_at < :before
+            """;
+
+    private static final String COPY_ROOM = """
+            INSERT INTO tb_bookings_history
+                (id, room_id, room_name, user_id, user_name, user_email, start_at, end_at, series_id, archived_at)
+            SELECT b.id, b.room_id, r.name, b.user_id, u.name, u.email, b.start_at, b.end_at, b.series_id, :now
+            FROM tb_bookings b
+            JOIN tb_rooms r ON r.id = b.room_id
+            JOIN tb_users u ON u.id = b.user_id
+            WHERE b.room_id = :roomId AND b.start_at < :before
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_ROOM = """
+            DELETE FROM tb_bookings
+            WHERE room_id = :roomId AND start_at < :before
+            """;
+
+    private static final RowMapper<BookingSlot> SLOT_MAPPER = (rs, row) -> new BookingSlot(
+            rs.getLong("id"),
+            rs.getLong("room_id"),
+            rs.getLong("user_id"),
+            rs.getObject("start_at", LocalDateTime.class),
+            rs.getObject("end_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final long pauseMillis;
+    // Keeps this instance from overlapping itself; other instances are kept apart by the row locks.
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BookingArchiver(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${booking.archive.enabled}") boolean enabled,
+            @Value("${booking.archive.retention}") Duration retention,
+            @Value("${booking.archive.batch-size}") int batchSize,
+            @Value("${booking.archive.pause-ms}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${booking.archive.cron}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archive(LocalDateTime.now().minus(retention));
+        }
+    }
+
+    public int archive(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int archived = 0;
+        try {
+            while (true) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                archived += moved;
+                if (moved < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+        }
+
+        if (archived > 0) {
+            log.info("{} reservas anteriores a {} movidas para o histórico", archived, cutoff);
+        }
+        return archived;
+    }
+
+    // Runs in the caller's transaction, unbatched: a room being decommissioned keeps the bookings
+    // that already started, so they move to the history before the room row can be deleted.
+    public int archiveRoom(Long roomId, LocalDateTime before) {
+        MapSqlParameterSource params = new MapSqlParameterSource("roomId", roomId)
+                .addValue("before", before)
+                .addValue("now", LocalDateTime.now());
+        List<BookingSlot> slots = jdbcTemplate.query(SELECT_ROOM, params, SLOT_MAPPER);
+        if (slots.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update(COPY_ROOM, params);
+        int archived = jdbcTemplate.update(DELETE_ROOM, params);
+        eventPublisher.publishEvent(new BookingsArchivedEvent(slots));
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<BookingSlot> slots = jdbcTemplate.query(SELECT_BATCH,
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", batchSize), SLOT_MAPPER);
+        if (slots.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", slots.stream().map(BookingSlot::id).toList())
+                .addValue("cutoff", cutoff)
+                .addValue("now", LocalDateTime.now());
+        jdbcTemplate.update(COPY_BATCH, params);
+        jdbcTemplate.update(DELETE_BATCH, params);
+
+        // The in-memory indexes drop these rows once the batch commits.
+        eventPublisher.publishEvent(new BookingsArchivedEvent(slots));
+        return slots.size();
+    }
+}
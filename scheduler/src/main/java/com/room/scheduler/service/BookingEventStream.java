@@ -0,0 +1,206 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.dto.BookingStreamEvent;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.event.RoomsChangedEvent;
+import com.room.scheduler.model.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans committed booking and room changes out to open SSE connections. Publishing only enqueues;
+// each subscriber drains its own bounded queue on a virtual thread, so a slow client can never
+// hold up the committing thread or the other dashboards, and an idle stream costs one heartbeat.
+@Component
+public class BookingEventStream {
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final BookingStreamEvent[] replay;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Counter evicted;
+
+    // Seeded from the clock so ids handed out before a restart always fall behind the replay window.
+    private final long firstId = System.currentTimeMillis();
+    private long nextId = firstId;
+
+    public BookingEventStream(MeterRegistry meterRegistry,
+            @Value("${booking.stream.replay-size}") int replaySize,
+            @Value("${booking.stream.buffer-size}") int bufferSize,
+            @Value("${booking.stream.timeout}") Duration timeout) {
+        this.replay = new BookingStreamEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+
+        this.evicted = Counter.builder("booking.stream.evicted")
+                .description("Subscribers disconnected because their buffer filled up")
+                .register(meterRegistry);
+        Gauge.builder("booking.stream.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(AuthenticatedUser user, Long roomId, Long userId, Long lastEventId) {
+        if (!user.isAdmin() && userId != null && !userId.equals(user.id())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Você só pode acompanhar as próprias reservas");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, user, roomId, userId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Under the publish lock, so nothing committed between the replay and the registration is lost.
+        synchronized (this) {
+            if (lastEventId != null) {
+                replayAfter(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCreated(BookingsCreatedEvent event) {
+        publish(BookingStreamEvent.CREATED, event.slots());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCancelled(BookingsCancelledEvent event) {
+        publish(BookingStreamEvent.CANCELLED, event.slots());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomsChanged(RoomsChangedEvent event) {
+        synchronized (this) {
+            dispatch(new BookingStreamEvent(nextId++, BookingStreamEvent.ROOMS_CHANGED, null, null, null, null, null));
+        }
+    }
+
+    // The local timeline may have missed changes, so every open dashboard is told to refetch.
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().name("reset").data("")));
+    }
+
+    @Scheduled(fixedDelayString = "${booking.stream.heartbeat-ms}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("ping")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdown();
+    }
+
+    private synchronized void publish(String type, List<BookingSlot> slots) {
+        slots.forEach(slot -> dispatch(BookingStreamEvent.of(nextId++, type, slot)));
+    }
+
+    private void dispatch(BookingStreamEvent event) {
+        replay[(int) (event.id() % replay.length)] = event;
+        subscribers.forEach(subscriber -> subscriber.deliver(event));
+    }
+
+    private void replayAfter(Subscriber subscriber, long lastEventId) {
+        long oldest = Math.max(firstId, nextId - replay.length);
+        // A gap the window can no longer fill: tell the client to refetch instead of replaying.
+        if (lastEventId < oldest - 1 || lastEventId >= nextId) {
+            subscriber.offer(SseEmitter.event().name("reset").data(""));
+            return;
+        }
+        for (long id = lastEventId + 1; id < nextId; id++) {
+            subscriber.deliver(replay[(int) (id % replay.length)]);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AuthenticatedUser user;
+        private final Long roomId;
+        private final Long userId;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, AuthenticatedUser user, Long roomId, Long userId) {
+            this.emitter = emitter;
+            this.user = user;
+            this.roomId = roomId;
+            this.userId = userId;
+        }
+
+        void deliver(BookingStreamEvent event) {
+            if (!event.matches(roomId, userId)) {
+                return;
+            }
+            boolean ownsBooking = event.userId() == null || event.userId().equals(user.id());
+            BookingStreamEvent visible = user.isAdmin() || ownsBooking ? event : event.withoutUser();
+            offer(SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(event.type())
+                    .data(visible, MediaType.APPLICATION_JSON));
+        }
+
+        // A full buffer means the client stopped reading; dropping it is cheaper than buffering
+        // forever, and it resumes from Last-Event-ID when it reconnects. Completing takes the
+        // emitter's write lock, which a send stuck on that client still holds, so it runs off
+        // the publishing thread.
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (size.incrementAndGet() > bufferSize) {
+                if (subscribers.remove(this)) {
+                    evicted.increment();
+                    dispatcher.execute(emitter::complete);
+                }
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        subscribers.remove(this);
+                        pending.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
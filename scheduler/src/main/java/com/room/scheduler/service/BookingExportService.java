@@ -0,0 +1,95 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingExportFormat;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSource;
+import com.room.scheduler.repository.BookingHistoryRepository;
+import com.room.scheduler.repository.BookingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class BookingExportService {
+    private static final int FLUSH_EVERY = 500;
+    private static final byte[] CSV_HEADER = "id,room,user,email,start_at,end_at\n".getBytes(StandardCharsets.UTF_8);
+
+    private final BookingRepository bookingRepository;
+    private final BookingHistoryRepository historyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingExportService(BookingRepository bookingRepository, BookingHistoryRepository historyRepository,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.historyRepository = historyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Runs on the async request thread, so the transaction that keeps the cursor open
+    // is opened here instead of around the controller call.
+    public void export(BookingExportFormat format, BookingSource source, LocalDateTime from, LocalDateTime to,
+            OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<BookingResponse> rows = source == BookingSource.HISTORY
+                    ? historyRepository.streamForExport(from, to)
+                    : bookingRepository.streamForExport(from, to)) {
+                // The first bytes go out at once, so the download starts before the query has warmed up.
+                if (format == BookingExportFormat.CSV) {
+                    out.write(CSV_HEADER);
+                    out.flush();
+                }
+
+                int written = 0;
+                for (Iterator<BookingResponse> it = rows.iterator(); it.hasNext();) {
+                    out.write(format == BookingExportFormat.CSV ? toCsv(it.next()) : toNdjson(it.next()));
+                    if (++written == 1 || written % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private byte[] toNdjson(BookingResponse row) {
+        byte[] json = objectMapper.writeValueAsBytes(row);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    private byte[] toCsv(BookingResponse row) {
+        String line = row.id() + ","
+                + csvField(row.roomName()) + ","
+                + csvField(row.userName()) + ","
+                + csvField(row.userEmail()) + ","
+                + row.startAt() + ","
+                + row.endAt() + "\n";
+        return line.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,195 @@
+package com.room.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.HoldPlacedEvent;
+import com.room.scheduler.event.HoldReleasedEvent;
+import com.room.scheduler.model.AuthenticatedUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Tentative holds live only in memory: they last minutes, so losing them on a restart just means
+// the user confirms against a free slot again. Callers placing a hold must own the room's stripe.
+// Placements and releases go out over the cluster bus, so any instance can confirm a hold and
+// every instance refuses its slot; without the bus, running more than one instance needs sticky
+// routing. Each instance expires its copies on its own clock, and two instances can still grant
+// overlapping holds within the bus latency: the booking constraints decide which one confirms.
+@Component
+public class BookingHoldRegistry {
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_LEVELS = 3;
+    // A form can sit open long after its hold ran out; its confirmation should still read as expired.
+    private static final Duration EXPIRED_RETENTION = Duration.ofHours(1);
+
+    private final Map<Long, Entry> holds = new ConcurrentHashMap<>();
+    private final Map<Long, RoomIntervalIndex.RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> holdsPerUser = new ConcurrentHashMap<>();
+    // Lets a late confirmation tell an expired hold (410) from one that never existed (404).
+    private final Cache<Long, Boolean> expired;
+    // A random start keeps the ids of different instances apart, and below 2^53 they stay exact in JSON.
+    private final AtomicLong ids = new AtomicLong(ThreadLocalRandom.current().nextLong(1L << 52));
+    private final TimingWheel<Long> wheel = new TimingWheel<>(WHEEL_LEVELS, 0);
+    private final long origin = System.nanoTime();
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final int maxPerUser;
+    private final Thread ticker;
+
+    public BookingHoldRegistry(MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher,
+            @Value("${booking.holds.ttl}") Duration ttl,
+            @Value("${booking.holds.max-per-user}") int maxPerUser) {
+        if (ttl.toMillis() / TICK_MILLIS >= wheel.span()) {
+            throw new IllegalArgumentException("booking.holds.ttl is longer than the expiry wheel covers");
+        }
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.maxPerUser = maxPerUser;
+        this.expired = Caffeine.newBuilder()
+                .expireAfterWrite(EXPIRED_RETENTION)
+                .maximumSize(100_000)
+                .build();
+
+        Gauge.builder("booking.holds.active", holds, Map::size)
+                .register(meterRegistry);
+
+        this.ticker = Thread.ofPlatform()
+                .name("booking-hold-expiry")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    public Hold place(Long roomId, AuthenticatedUser user, LocalDateTime startAt, LocalDateTime endAt) {
+        if (holdsPerUser.merge(user.id(), 1, Integer::sum) > maxPerUser) {
+            holdsPerUser.merge(user.id(), -1, BookingHoldRegistry::addOrRemove);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Limite de pré-reservas simultâneas atingido");
+        }
+
+        Hold hold = add(new BookingSlot(ids.incrementAndGet(), roomId, user.id(), startAt, endAt));
+        eventPublisher.publishEvent(new HoldPlacedEvent(hold.slot()));
+        return hold;
+    }
+
+    // A hold placed on another instance; it counts against the user's limit here as well.
+    void replicate(BookingSlot slot) {
+        holdsPerUser.merge(slot.userId(), 1, Integer::sum);
+        add(slot);
+    }
+
+    // Released on another instance, so it is neither expired nor announced again.
+    void replicateRelease(Long holdId) {
+        remove(holdId);
+        expired.invalidate(holdId);
+    }
+
+    public Optional<Hold> find(Long holdId) {
+        Entry entry = holds.get(holdId);
+        return entry != null ? Optional.of(entry.hold()) : Optional.empty();
+    }
+
+    public boolean hasExpired(Long holdId) {
+        return expired.getIfPresent(holdId) != null;
+    }
+
+    // The hold being confirmed must not count as a conflict for its own booking.
+    public boolean overlaps(Long roomId, LocalDateTime startAt, LocalDateTime endAt, Long exceptHoldId) {
+        RoomIntervalIndex.RoomTimeline timeline = timelines.get(roomId);
+        return timeline != null && timeline.between(startAt, endAt).stream()
+                .anyMatch(slot -> !slot.id().equals(exceptHoldId));
+    }
+
+    // A confirmed hold may have hit its deadline while the booking committed; it was used, not lost.
+    public void release(Long holdId) {
+        Entry entry = remove(holdId);
+        if (entry != null) {
+            eventPublisher.publishEvent(new HoldReleasedEvent(entry.hold().slot()));
+        }
+        expired.invalidate(holdId);
+    }
+
+    // The room is gone, so none of its holds may be confirmed any more.
+    public void releaseRoom(Long roomId) {
+        holds.values().stream()
+                .map(Entry::hold)
+                .filter(hold -> hold.slot().roomId().equals(roomId))
+                .map(Hold::id)
+                .toList()
+                .forEach(this::release);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.interrupt();
+    }
+
+    private static Integer addOrRemove(Integer count, Integer delta) {
+        return count + delta == 0 ? null : count + delta;
+    }
+
+    private Hold add(BookingSlot slot) {
+        Hold hold = new Hold(slot, Instant.now().plus(ttl));
+        timelines.computeIfAbsent(slot.roomId(), id -> new RoomIntervalIndex.RoomTimeline()).add(slot);
+        holds.put(hold.id(), new Entry(hold, wheel.schedule(hold.id(), currentTick() + ttl.toMillis() / TICK_MILLIS)));
+        return hold;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - origin) / (TICK_MILLIS * 1_000_000);
+    }
+
+    // Marked before the removal so a confirmation never sees the hold gone yet not expired; a hold
+    // confirmed or released just before its deadline is unmarked again.
+    private void expire(Long holdId) {
+        expired.put(holdId, Boolean.TRUE);
+        if (remove(holdId) == null) {
+            expired.invalidate(holdId);
+        }
+    }
+
+    private Entry remove(Long holdId) {
+        Entry entry = holds.remove(holdId);
+        if (entry == null) {
+            return null;
+        }
+        wheel.cancel(entry.timeout());
+        timelines.get(entry.hold().slot().roomId()).remove(entry.hold().slot());
+        holdsPerUser.merge(entry.hold().slot().userId(), -1, BookingHoldRegistry::addOrRemove);
+        return entry;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(TICK_MILLIS);
+                wheel.advanceTo(currentTick()).forEach(this::expire);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public record Hold(BookingSlot slot, Instant expiresAt) {
+        public Long id() {
+            return slot.id();
+        }
+    }
+
+    private record Entry(Hold hold, TimingWheel.Timeout<Long> timeout) {
+    }
+}
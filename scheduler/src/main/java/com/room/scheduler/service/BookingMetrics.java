@@ -0,0 +1,49 @@
+package com.room.scheduler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class BookingMetrics {
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.batchSize = DistributionSummary.builder("booking.admission.batch.size")
+                .description("Bookings committed together by one stripe writer")
+                .register(meterRegistry);
+    }
+
+    public <T> T time(String operation, Supplier<T> work) {
+        return timer(operation).record(work);
+    }
+
+    public void record(String operation, Runnable work) {
+        timer(operation).record(work);
+    }
+
+    // Tagged by room so the 409 rate can be read per room as conflict / (created + conflict).
+    public void attempt(Long roomId, boolean created) {
+        Counter.builder("booking.attempts")
+                .tag("room", String.valueOf(roomId))
+                .tag("outcome", created ? "created" : "conflict")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void batchCommitted(int size) {
+        batchSize.record(size);
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("booking.operation")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
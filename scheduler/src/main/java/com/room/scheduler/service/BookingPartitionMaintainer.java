@@ -0,0 +1,58 @@
+package com.room.scheduler.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Keeps monthly tb_bookings partitions created ahead of time, so new bookings rarely fall into
+// the default partition; those beyond the horizon are moved out when their month is created.
+// Only Postgres partitions the table; on H2 this does nothing.
+@Component
+public class BookingPartitionMaintainer {
+    private static final Logger log = LoggerFactory.getLogger(BookingPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private volatile Boolean postgres;
+
+    public BookingPartitionMaintainer(JdbcTemplate jdbcTemplate,
+            @Value("${booking.partitions.months-ahead}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${booking.partitions.cron}")
+    public void ensurePartitions() {
+        if (!isPostgres()) {
+            return;
+        }
+
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            try {
+                jdbcTemplate.queryForList("SELECT create_booking_partition(?)", month.plusMonths(i));
+            } catch (DataAccessException e) {
+                // The next run retries; the month's bookings stay in the default partition meanwhile.
+                log.warn("Não foi possível criar a partição de reservas de {}", month.plusMonths(i), e);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> "PostgreSQL"
+                    .equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
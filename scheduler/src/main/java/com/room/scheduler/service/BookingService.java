@@ -1,79 +1,215 @@
 package com.room.scheduler.service;
 
+import com.room.scheduler.dto.BookingBatchMode;
+import com.room.scheduler.dto.BookingBatchRequest;
+import com.room.scheduler.dto.BookingBatchResponse;
+import com.room.scheduler.dto.BookingCursor;
+import com.room.scheduler.dto.BookingFilter;
+import com.room.scheduler.dto.BookingHoldResponse;
+import com.room.scheduler.dto.BookingOrder;
+import com.room.scheduler.dto.BookingPage;
 import com.room.scheduler.dto.BookingRequest;
 import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSeriesRequest;
+import com.room.scheduler.dto.BookingSeriesResponse;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.dto.BookingSource;
+import com.room.scheduler.dto.BulkCancellationRequest;
+import com.room.scheduler.dto.CancellationResponse;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.model.AuthenticatedUser;
 import com.room.scheduler.model.Booking;
-import com.room.scheduler.model.Room;
-import com.room.scheduler.model.User;
+import com.room.scheduler.model.BookingSeries;
+import com.room.scheduler.repository.BookingHistoryRepository;
 import com.room.scheduler.repository.BookingRepository;
-import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.BookingSeriesRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 @Service
 @Transactional(readOnly = true)
 public class BookingService {
+    private static final int MAX_SERIES_OCCURRENCES = 500;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final BookingRepository bookingRepository;
-    private final RoomRepository roomRepository;
+    private final BookingSeriesRepository seriesRepository;
+    private final BookingHistoryRepository historyRepository;
+    private final BookingAdmissionPipeline admissionPipeline;
+    private final BookingHoldRegistry holdRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingMetrics metrics;
+    private final ReadYourWritesTracker readYourWrites;
 
-    public BookingService(BookingRepository bookingRepository, RoomRepository roomRepository) {
+    public BookingService(BookingRepository bookingRepository, BookingSeriesRepository seriesRepository,
+            BookingHistoryRepository historyRepository, BookingAdmissionPipeline admissionPipeline,
+            BookingHoldRegistry holdRegistry, ApplicationEventPublisher eventPublisher, BookingMetrics metrics,
+            ReadYourWritesTracker readYourWrites) {
         this.bookingRepository = bookingRepository;
-        this.roomRepository = roomRepository;
+        this.seriesRepository = seriesRepository;
+        this.historyRepository = historyRepository;
+        this.admissionPipeline = admissionPipeline;
+        this.holdRegistry = holdRegistry;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.readYourWrites = readYourWrites;
     }
 
-    public List<BookingResponse> listAll() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+    public BookingPage listAll(BookingFilter filter, BookingSource source, BookingOrder order, String cursor,
+            int limit) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        LocalDateTime cursorStart = after != null ? after.startAt() : null;
+        Long cursorId = after != null ? after.id() : null;
+        Limit page = Limit.of(pageSize(limit) + 1);
+        boolean descending = order == BookingOrder.DESC;
+
+        List<BookingResponse> items = source == BookingSource.HISTORY
+                ? metrics.time("list_history", () -> descending
+                        ? historyRepository.findPageDescending(filter.roomId(), filter.userId(), filter.from(),
+                                filter.to(), cursorStart, cursorId, page)
+                        : historyRepository.findPageAscending(filter.roomId(), filter.userId(), filter.from(),
+                                filter.to(), cursorStart, cursorId, page))
+                : metrics.time("list_all", () -> descending
+                        ? bookingRepository.findPageDescending(filter.roomId(), filter.userId(), filter.from(),
+                                filter.to(), cursorStart, cursorId, page)
+                        : bookingRepository.findPageAscending(filter.roomId(), filter.userId(), filter.from(),
+                                filter.to(), cursorStart, cursorId, page));
+
+        return toPage(items, pageSize(limit));
     }
 
-    public List<BookingResponse> listMyBookings(User user) {
-        return bookingRepository.findByUserOrderByStartAtDesc(user).stream()
-                .map(this::mapToResponse)
-                .toList();
+    public BookingPage listMyBookings(AuthenticatedUser user, BookingFilter filter, String cursor, int limit) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        List<BookingResponse> items = metrics.time("list_mine", () -> bookingRepository.findPageDescending(
+                filter.roomId(), user.id(), filter.from(), filter.to(),
+                after != null ? after.startAt() : null, after != null ? after.id() : null,
+                Limit.of(pageSize(limit) + 1)));
+
+        return toPage(items, pageSize(limit));
     }
 
-    @Transactional
-    public Booking createBooking(BookingRequest request) {
-        if (!request.getEndAt().isAfter(request.getStartAt().plusMinutes(15))) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A reserva deve ter no mínimo 15 minutos");
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingResponse createBooking(BookingRequest request, AuthenticatedUser user) {
+        checkDuration(request.getStartAt(), request.getEndAt());
 
-        Room room = roomRepository.findById(request.getRoomId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
+        Booking booking = metrics.time("create", () -> admissionPipeline.submit(request, user));
+        readYourWrites.markWrite(user);
 
-        boolean hasConflict = bookingRepository.existsOverlappingBooking(room.getId(), request.getStartAt(),
-                request.getEndAt());
+        return new BookingResponse(
+                booking.getId(),
+                booking.getRoom().getName(),
+                user.name(),
+                user.email(),
+                booking.getStartAt(),
+                booking.getEndAt());
+    }
 
-        if (hasConflict) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Esta sala já está reservada para este horário");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingHoldResponse createHold(BookingRequest request, AuthenticatedUser user) {
+        checkDuration(request.getStartAt(), request.getEndAt());
+
+        BookingHoldRegistry.Hold hold = metrics.time("hold", () -> admissionPipeline.submitHold(request, user));
+        return new BookingHoldResponse(hold.id(), hold.slot().roomId(), hold.slot().startAt(), hold.slot().endAt(),
+                hold.expiresAt());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingResponse confirmHold(Long holdId, AuthenticatedUser user) {
+        BookingSlot held = ownedHold(holdId, user, false);
+
+        BookingRequest request = new BookingRequest();
+        request.setRoomId(held.roomId());
+        request.setStartAt(held.startAt());
+        request.setEndAt(held.endAt());
+        Booking booking = metrics.time("confirm", () -> admissionPipeline.submit(request, user, holdId));
+        readYourWrites.markWrite(user);
+
+        return new BookingResponse(
+                booking.getId(),
+                booking.getRoom().getName(),
+                user.name(),
+                user.email(),
+                booking.getStartAt(),
+                booking.getEndAt());
+    }
+
+    public void releaseHold(Long holdId, AuthenticatedUser user) {
+        ownedHold(holdId, user, user.isAdmin());
+        holdRegistry.release(holdId);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingBatchResponse createBatch(BookingBatchRequest request, AuthenticatedUser user) {
+        BookingBatchMode mode = request.getMode() != null ? request.getMode() : BookingBatchMode.ALL_OR_NOTHING;
+
+        BookingBatchResponse response = admissionPipeline.submitBatch(request.getBookings(), mode, user);
+        readYourWrites.markWrite(user);
+        return response;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingSeriesResponse createSeries(BookingSeriesRequest request, AuthenticatedUser user) {
+        checkDuration(request.getStartAt(), request.getEndAt());
+        if ((request.getUntil() == null) == (request.getCount() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Informe a data final ou a quantidade de ocorrências da série");
         }
 
-        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        int interval = request.getInterval() != null ? request.getInterval() : 1;
 
-        Booking booking = new Booking();
-        booking.setRoom(room);
-        booking.setUser(user);
-        booking.setStartAt(request.getStartAt());
-        booking.setEndAt(request.getEndAt());
+        BookingSeries series = new BookingSeries();
+        series.setFrequency(request.getFrequency());
+        series.setInterval(interval);
+        series.setStartAt(request.getStartAt());
+        series.setEndAt(request.getEndAt());
+        series.setUntilDate(request.getUntil());
+        series.setOccurrenceCount(request.getCount());
 
-        return bookingRepository.save(booking);
+        List<BookingRequest> occurrences = expandSeries(request.getRoomId(), series);
+        BookingSeriesResponse response = admissionPipeline.submitSeries(request.getRoomId(), series, occurrences,
+                user);
+        readYourWrites.markWrite(user);
+        return response;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CancellationResponse cancelSeries(Long seriesId, AuthenticatedUser user) {
+        BookingSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Série não encontrada"));
+
+        boolean isOwner = series.getUser().getId().equals(user.id());
+        boolean isAdmin = user.isAdmin();
+
+        if (!isOwner && !isAdmin) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                    "Você não tem permissão para cancelar esta série.");
+        }
+
+        // Occurrences inside the 24h window stay booked for regular users, same as single cancellations.
+        LocalDateTime from = isAdmin ? LocalDateTime.now() : LocalDateTime.now().plusHours(24);
+        int cancelled = admissionPipeline.cancelSeries(series.getRoom().getId(), seriesId, from);
+
+        readYourWrites.markWrite(user);
+        return new CancellationResponse(cancelled);
     }
 
     @Transactional
-    public void cancelBooking(Long bookingId, User user) {
+    public void cancelBooking(Long bookingId, AuthenticatedUser user) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reserva não encontrada"));
 
-        boolean isOwner = booking.getUser().getId().equals(user.getId());
-        boolean isAdmin = user.getRole().equals("ADMIN");
+        boolean isOwner = booking.getUser().getId().equals(user.id());
+        boolean isAdmin = user.isAdmin();
 
         if (!isOwner && !isAdmin) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
@@ -90,16 +226,98 @@ public class BookingService {
             }
         }
 
-        bookingRepository.delete(booking);
+        metrics.record("cancel", () -> bookingRepository.delete(booking));
+        eventPublisher.publishEvent(new BookingsCancelledEvent(List.of(BookingSlot.from(booking))));
+        readYourWrites.markWrite(user);
     }
 
-    private BookingResponse mapToResponse(Booking booking) {
-        return new BookingResponse(
-                booking.getId(),
-                booking.getRoom().getName(),
-                booking.getUser().getName(),
-                booking.getUser().getEmail(),
-                booking.getStartAt(),
-                booking.getEndAt());
+    // Only bookings that have not started are cancelled; the rest is left for the archiver.
+    // Repeatable read keeps the slots published in the event identical to the rows deleted.
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public CancellationResponse cancelBulk(BulkCancellationRequest request, AuthenticatedUser user) {
+        if (request.getRoomId() == null && request.getUserId() == null
+                && request.getFrom() == null && request.getTo() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Informe a sala, o usuário ou o período das reservas a cancelar");
+        }
+        if (request.getFrom() != null && request.getTo() != null && !request.getTo().isAfter(request.getFrom())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O fim deve ser depois do início");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = request.getFrom() != null && request.getFrom().isAfter(now) ? request.getFrom() : now;
+        List<BookingSlot> slots = bookingRepository.findSlotsStartingBetween(request.getRoomId(),
+                request.getUserId(), from, request.getTo());
+        int cancelled = metrics.time("cancel_bulk", () -> bookingRepository.deleteStartingBetween(
+                request.getRoomId(), request.getUserId(), from, request.getTo()));
+
+        if (!slots.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsCancelledEvent(slots));
+        }
+        readYourWrites.markWrite(user);
+        return new CancellationResponse(cancelled);
+    }
+
+    private BookingSlot ownedHold(Long holdId, AuthenticatedUser user, boolean allowOthers) {
+        BookingSlot held = holdRegistry.find(holdId)
+                .map(BookingHoldRegistry.Hold::slot)
+                .orElseThrow(() -> holdRegistry.hasExpired(holdId)
+                        ? new ResponseStatusException(HttpStatus.GONE, "A pré-reserva expirou")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Pré-reserva não encontrada"));
+        if (!allowOthers && !held.userId().equals(user.id())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                    "Você não tem permissão para usar esta pré-reserva.");
+        }
+        return held;
+    }
+
+    private void checkDuration(LocalDateTime startAt, LocalDateTime endAt) {
+        if (!endAt.isAfter(startAt.plusMinutes(15))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A reserva deve ter no mínimo 15 minutos");
+        }
+        if (endAt.isAfter(startAt.plus(Booking.MAX_DURATION))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A reserva pode durar no máximo 31 dias");
+        }
+    }
+
+    private List<BookingRequest> expandSeries(Long roomId, BookingSeries series) {
+        List<BookingRequest> occurrences = new ArrayList<>();
+        LocalDateTime startAt = series.getStartAt();
+        LocalDateTime endAt = series.getEndAt();
+
+        while ((series.getOccurrenceCount() == null || occurrences.size() < series.getOccurrenceCount())
+                && (series.getUntilDate() == null || !startAt.toLocalDate().isAfter(series.getUntilDate()))) {
+            if (occurrences.size() == MAX_SERIES_OCCURRENCES) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "A série pode ter no máximo " + MAX_SERIES_OCCURRENCES + " ocorrências");
+            }
+
+            BookingRequest occurrence = new BookingRequest();
+            occurrence.setRoomId(roomId);
+            occurrence.setStartAt(startAt);
+            occurrence.setEndAt(endAt);
+            occurrences.add(occurrence);
+
+            startAt = series.getFrequency().advance(startAt, series.getInterval());
+            endAt = series.getFrequency().advance(endAt, series.getInterval());
+        }
+
+        if (occurrences.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A série não gera nenhuma ocorrência");
+        }
+        return occurrences;
+    }
+
+    private int pageSize(int limit) {
+        return Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    // One extra row is fetched only to tell whether another page exists.
+    private BookingPage toPage(List<BookingResponse> items, int pageSize) {
+        if (items.size() <= pageSize) {
+            return new BookingPage(items, null);
+        }
+        List<BookingResponse> page = items.subList(0, pageSize);
+        return new BookingPage(page, BookingCursor.after(page.get(pageSize - 1)).encode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsArchivedEvent;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.ClusterEvent;
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.event.HoldPlacedEvent;
+import com.room.scheduler.event.HoldReleasedEvent;
+import com.room.scheduler.event.RoomsChangedEvent;
+import com.room.scheduler.event.UsersChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+// Forwards every committed write to the other instances and replays theirs here as local events
+// published outside a transaction, which the in-memory stores accept through fallbackExecution.
+// The forwarding listeners below have no fallback, so replayed events are never sent back out.
+@Component
+@ConditionalOnExpression("'${cluster.bus.transport}' != 'none'")
+public class ClusterInvalidationBus implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationBus.class);
+    // Keeps each message well under the 8000-byte NOTIFY payload limit.
+    private static final int SLOTS_PER_MESSAGE = 40;
+
+    private final ClusterTransport transport;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final BookingHoldRegistry holdRegistry;
+    private final Counter resyncs;
+    private final String instanceId = UUID.randomUUID().toString();
+    // Not the monitor receive() holds: the local transport delivers synchronously, and two contexts
+    // sending to each other must not wait on each other's receive.
+    private final Object sendLock = new Object();
+    private long sequence;
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+
+    public ClusterInvalidationBus(ClusterTransport transport, ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher, PrincipalCache principalCache,
+            TokenRevocationList revocationList, BookingHoldRegistry holdRegistry, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+        this.holdRegistry = holdRegistry;
+        this.resyncs = Counter.builder("cluster.bus.resyncs")
+                .description("Full reloads after a gap in another instance's sequence")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transport.listen(this::receive, this::resync);
+    }
+
+    @TransactionalEventListener
+    public void onBookingsCreated(BookingsCreatedEvent event) {
+        send(ClusterEvent.Type.BOOKINGS_CREATED, event.slots());
+    }
+
+    @TransactionalEventListener
+    public void onBookingsCancelled(BookingsCancelledEvent event) {
+        send(ClusterEvent.Type.BOOKINGS_CANCELLED, event.slots());
+    }
+
+    @TransactionalEventListener
+    public void onBookingsArchived(BookingsArchivedEvent event) {
+        send(ClusterEvent.Type.BOOKINGS_ARCHIVED, event.slots());
+    }
+
+    @TransactionalEventListener
+    public void onRoomsChanged(RoomsChangedEvent event) {
+        send(ClusterEvent.Type.ROOMS_CHANGED, List.of());
+    }
+
+    // User writes are not transactional, so this one must also fire without a transaction.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        publish(number -> new ClusterEvent(instanceId, number, ClusterEvent.Type.USER_CHANGED, List.of(),
+                event.userId(), event.email(), event.revokedAt()));
+    }
+
+    // Holds never reach the database, so they go out as soon as they change, transaction or not.
+    @EventListener
+    public void onHoldPlaced(HoldPlacedEvent event) {
+        send(ClusterEvent.Type.HOLD_PLACED, List.of(event.slot()));
+    }
+
+    @EventListener
+    public void onHoldReleased(HoldReleasedEvent event) {
+        send(ClusterEvent.Type.HOLD_RELEASED, List.of(event.slot()));
+    }
+
+    private void send(ClusterEvent.Type type, List<BookingSlot> slots) {
+        int from = 0;
+        do {
+            List<BookingSlot> chunk = slots.subList(from, Math.min(from + SLOTS_PER_MESSAGE, slots.size()));
+            publish(number -> new ClusterEvent(instanceId, number, type, chunk, null, null, null));
+            from += SLOTS_PER_MESSAGE;
+        } while (from < slots.size());
+    }
+
+    // Numbered and sent under one lock, so messages leave in sequence order: two committing threads
+    // could otherwise swap them, and every inversion would cost the receivers a full resync.
+    // A failed send still used up its sequence number, so the other instances see the gap and resync.
+    private void publish(LongFunction<ClusterEvent> numbered) {
+        synchronized (sendLock) {
+            ClusterEvent event = numbered.apply(++sequence);
+            try {
+                transport.send(objectMapper.writeValueAsString(event));
+            } catch (RuntimeException e) {
+                log.warn("Falha ao publicar {} #{} no barramento", event.type(), event.sequence(), e);
+            }
+        }
+    }
+
+    synchronized void receive(String payload) {
+        ClusterEvent event = objectMapper.readValue(payload, ClusterEvent.class);
+        if (instanceId.equals(event.origin())) {
+            return;
+        }
+
+        // The first message from an instance only sets its baseline; everything before it was
+        // already in the database when this instance loaded its state.
+        Long last = lastSeen.put(event.origin(), event.sequence());
+        if (last != null && event.sequence() != last + 1) {
+            log.warn("Lacuna na sequência de {} ({} -> {}), recarregando o estado local", event.origin(), last,
+                    event.sequence());
+            resync();
+            return;
+        }
+
+        switch (event.type()) {
+            case BOOKINGS_CREATED -> eventPublisher.publishEvent(new BookingsCreatedEvent(event.slots()));
+            case BOOKINGS_CANCELLED -> eventPublisher.publishEvent(new BookingsCancelledEvent(event.slots()));
+            case BOOKINGS_ARCHIVED -> eventPublisher.publishEvent(new BookingsArchivedEvent(event.slots()));
+            case ROOMS_CHANGED -> eventPublisher.publishEvent(new RoomsChangedEvent());
+            case USER_CHANGED -> {
+                if (event.email() != null) {
+                    principalCache.evict(event.email());
+                }
+                revocationList.revoke(event.userId(), event.revokedAt());
+            }
+            case HOLD_PLACED -> event.slots().forEach(holdRegistry::replicate);
+            case HOLD_RELEASED -> event.slots().forEach(slot -> holdRegistry.replicateRelease(slot.id()));
+        }
+    }
+
+    private synchronized void resync() {
+        resyncs.increment();
+        principalCache.evictAll();
+        eventPublisher.publishEvent(new ClusterResyncEvent());
+    }
+}
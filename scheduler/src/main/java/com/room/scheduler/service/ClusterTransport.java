@@ -0,0 +1,11 @@
+package com.room.scheduler.service;
+
+import java.util.function.Consumer;
+
+public interface ClusterTransport {
+    void send(String payload);
+
+    // onReconnect runs whenever the subscription had to be re-established, because anything
+    // sent while it was down is gone.
+    void listen(Consumer<String> onMessage, Runnable onReconnect);
+}
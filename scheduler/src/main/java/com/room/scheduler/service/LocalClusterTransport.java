@@ -0,0 +1,35 @@
+package com.room.scheduler.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Stand-in for NOTIFY when there is no Postgres: static, so application contexts sharing a JVM
+// (and an H2 database) see each other's messages the way separate instances would.
+@Component
+@ConditionalOnProperty(name = "cluster.bus.transport", havingValue = "local")
+public class LocalClusterTransport implements ClusterTransport {
+    private static final List<Consumer<String>> RECEIVERS = new CopyOnWriteArrayList<>();
+
+    private Consumer<String> receiver;
+
+    @Override
+    public void send(String payload) {
+        RECEIVERS.forEach(receiver -> receiver.accept(payload));
+    }
+
+    @Override
+    public void listen(Consumer<String> onMessage, Runnable onReconnect) {
+        this.receiver = onMessage;
+        RECEIVERS.add(onMessage);
+    }
+
+    @PreDestroy
+    public void close() {
+        RECEIVERS.remove(receiver);
+    }
+}
@@ -0,0 +1,66 @@
+package com.room.scheduler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// BCrypt is CPU-bound by design, so it gets a small pool of its own instead of
+// borrowing request threads that booking traffic needs.
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer queueTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+            @Value("${api.security.hashing.threads}") int threads,
+            @Value("${api.security.hashing.queue-capacity}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hasher-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hashing")
+                .description("Time spent hashing or verifying a password")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time a password task waited for a hashing thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Password tasks refused because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            // Failing fast keeps a login burst from piling up requests the clients will have abandoned anyway.
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Muitas autenticações em andamento, tente novamente");
+        }
+    }
+}
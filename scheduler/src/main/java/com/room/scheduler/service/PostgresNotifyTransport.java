@@ -0,0 +1,97 @@
+package com.room.scheduler.service;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "cluster.bus.transport", havingValue = "postgres")
+public class PostgresNotifyTransport implements ClusterTransport {
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotifyTransport.class);
+    private static final String CHANNEL = "room_scheduler_changes";
+    private static final long RETRY_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private Thread listener;
+
+    public PostgresNotifyTransport(JdbcTemplate jdbcTemplate,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${cluster.bus.poll-ms}") int pollMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+    }
+
+    // Sent on a pooled connection in autocommit, so the notification goes out immediately.
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    // LISTEN keeps its connection for good, so it gets its own instead of pinning one from the pool.
+    @Override
+    public void listen(Consumer<String> onMessage, Runnable onReconnect) {
+        listener = Thread.ofPlatform()
+                .name("cluster-bus-listener")
+                .daemon(true)
+                .start(() -> run(onMessage, onReconnect));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void run(Consumer<String> onMessage, Runnable onReconnect) {
+        boolean connectedBefore = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                if (connectedBefore) {
+                    onReconnect.run();
+                }
+                connectedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (!Thread.currentThread().isInterrupted()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onMessage.accept(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Conexão de LISTEN perdida, reconectando em {} ms", RETRY_MILLIS, e);
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
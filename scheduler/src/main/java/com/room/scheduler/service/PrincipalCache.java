@@ -0,0 +1,60 @@
+package com.room.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.ttl}") Duration ttl,
+            @Value("${security.principal-cache.max-size}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    public Optional<User> findByEmail(String email) {
+        User cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Unknown subjects are not cached, so a user registered right after a miss is found at once.
+        // A load that raced with an eviction may hold the old role, so it is only stored if no
+        // eviction happened since it started; compute and invalidate serialize on the key.
+        long seen = evictions.get();
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(found -> cache.asMap().compute(email,
+                (key, current) -> evictions.get() == seen ? found : current));
+        return user;
+    }
+
+    // Call after the change has committed, so a reload can only see the new row.
+    public void evict(String email) {
+        evictions.incrementAndGet();
+        cache.invalidate(email);
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
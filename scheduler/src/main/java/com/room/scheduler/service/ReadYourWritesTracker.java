@@ -0,0 +1,98 @@
+package com.room.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.room.scheduler.model.AuthenticatedUser;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+// Remembers who just wrote so their next reads skip the replicas until those have caught up.
+// The window should cover datasource.replicas.max-lag, otherwise a lagging replica that is still
+// considered healthy could hide the booking the user just made.
+// The write time also goes back to the client in a cookie, so the next read is kept on the primary
+// by whichever instance serves it; the local entry covers clients that drop cookies, on this
+// instance only. Forging the cookie gains nothing but reads from the primary.
+@Component
+public class ReadYourWritesTracker {
+    static final String COOKIE = "last_write";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(
+            @Value("${datasource.replicas.urls}") String replicaUrls,
+            @Value("${datasource.replicas.sticky-window}") Duration window) {
+        this.enabled = !replicaUrls.isBlank();
+        this.window = window;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void markWrite(AuthenticatedUser user) {
+        if (enabled && user != null) {
+            recentWriters.put(user.id(), Boolean.TRUE);
+            ServletRequestAttributes attributes = currentAttributes();
+            HttpServletResponse response = attributes != null ? attributes.getResponse() : null;
+            if (response != null && !response.isCommitted()) {
+                response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie
+                        .from(COOKIE, user.id() + "-" + System.currentTimeMillis())
+                        .maxAge(window)
+                        .path("/")
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build()
+                        .toString());
+            }
+        }
+    }
+
+    public boolean currentUserWroteRecently() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && (recentWriters.getIfPresent(user.id()) != null || cookieIsRecent(user.id()));
+    }
+
+    // Instances compare the time against their own clocks, so the window absorbs small skews between them.
+    private boolean cookieIsRecent(Long userId) {
+        HttpServletRequest request = currentRequest();
+        if (request == null || request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            String[] parts = cookie.getName().equals(COOKIE) ? cookie.getValue().split("-") : new String[0];
+            if (parts.length == 2 && parts[0].equals(String.valueOf(userId))) {
+                try {
+                    return System.currentTimeMillis() - Long.parseLong(parts[1]) < window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ServletRequestAttributes currentAttributes() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        ServletRequestAttributes attributes = currentAttributes();
+        return attributes != null ? attributes.getRequest() : null;
+    }
+}
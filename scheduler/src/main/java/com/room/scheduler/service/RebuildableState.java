@@ -0,0 +1,57 @@
+package com.room.scheduler.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// In-memory state that can be rebuilt from the database while booking events keep arriving.
+// Changes apply to the live state at once; during a rebuild they are also recorded and replayed
+// onto the rebuilt state before it is swapped in, so a cancellation that committed after the
+// database read cannot come back with the older snapshot. The snapshot may already contain a
+// replayed change, so changes must be idempotent.
+final class RebuildableState<S> {
+    private final Object lock = new Object();
+    private volatile S current;
+    private List<Consumer<S>> pending;
+
+    RebuildableState(S initial) {
+        this.current = initial;
+    }
+
+    S get() {
+        return current;
+    }
+
+    void change(Consumer<S> change) {
+        synchronized (lock) {
+            change.accept(current);
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+
+    // Callers keep rebuilds from overlapping each other.
+    void rebuild(Supplier<S> loader) {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+
+        S loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            pending.forEach(change -> change.accept(loaded));
+            pending = null;
+            current = loaded;
+        }
+    }
+}
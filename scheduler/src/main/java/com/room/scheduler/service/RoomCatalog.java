@@ -0,0 +1,73 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.event.RoomsChangedEvent;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.repository.RoomRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+@Component
+public class RoomCatalog implements SmartInitializingSingleton {
+    private final RoomRepository roomRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot = new Snapshot(0, List.of(), new byte[0], "\"empty\"");
+
+    public RoomCatalog(RoomRepository roomRepository, ObjectMapper objectMapper) {
+        this.roomRepository = roomRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    // Synchronized so a reload that read the table earlier can never publish after a later one.
+    public synchronized void reload() {
+        List<Room> rooms = List.copyOf(roomRepository.findAll());
+        byte[] json = objectMapper.writeValueAsBytes(rooms);
+        snapshot = new Snapshot(snapshot.version() + 1, rooms, json, etagOf(json));
+    }
+
+    public List<Room> rooms() {
+        return snapshot.rooms();
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomsChanged(RoomsChangedEvent event) {
+        reload();
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        reload();
+    }
+
+    // Derived from the bytes rather than the version, so every instance and every restart
+    // hands out the same tag for the same catalog.
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Snapshot(long version, List<Room> rooms, byte[] json, String etag) {
+    }
+}
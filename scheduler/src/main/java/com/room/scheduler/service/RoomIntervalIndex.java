@@ -0,0 +1,146 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsArchivedEvent;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.repository.BookingRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RoomIntervalIndex implements SmartInitializingSingleton {
+    private static final Comparator<BookingSlot> BY_START = Comparator.comparing(BookingSlot::startAt)
+            .thenComparing(BookingSlot::id);
+
+    private final BookingRepository bookingRepository;
+    private final boolean enabled;
+    private final RebuildableState<Map<Long, RoomTimeline>> timelines = new RebuildableState<>(
+            new ConcurrentHashMap<>());
+    private volatile boolean ready;
+
+    public RoomIntervalIndex(BookingRepository bookingRepository,
+            @Value("${booking.index.enabled}") boolean enabled) {
+        this.bookingRepository = bookingRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    // Built aside and swapped in whole: clearing the live map first would let a concurrent
+    // admission see an empty index and accept an overlapping booking.
+    public synchronized void reload() {
+        timelines.rebuild(() -> {
+            Map<Long, RoomTimeline> loaded = new ConcurrentHashMap<>();
+            for (BookingSlot slot : bookingRepository.findAllSlots()) {
+                loaded.computeIfAbsent(slot.roomId(), id -> new RoomTimeline()).add(slot);
+            }
+            return loaded;
+        });
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public boolean overlaps(Long roomId, LocalDateTime startAt, LocalDateTime endAt) {
+        RoomTimeline timeline = timelines.get().get(roomId);
+        return timeline != null && timeline.overlaps(startAt, endAt);
+    }
+
+    public List<BookingSlot> between(Long roomId, LocalDateTime from, LocalDateTime to) {
+        RoomTimeline timeline = timelines.get().get(roomId);
+        return timeline != null ? timeline.between(from, to) : List.of();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCreated(BookingsCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        timelines.change(rooms -> event.slots()
+                .forEach(slot -> rooms.computeIfAbsent(slot.roomId(), id -> new RoomTimeline()).add(slot)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCancelled(BookingsCancelledEvent event) {
+        remove(event.slots());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsArchived(BookingsArchivedEvent event) {
+        remove(event.slots());
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    private void remove(List<BookingSlot> slots) {
+        if (!enabled) {
+            return;
+        }
+        timelines.change(rooms -> slots.forEach(slot -> {
+            RoomTimeline timeline = rooms.get(slot.roomId());
+            if (timeline != null) {
+                timeline.remove(slot);
+            }
+        }));
+    }
+
+    static final class RoomTimeline {
+        private final NavigableSet<BookingSlot> slots = new TreeSet<>(BY_START);
+
+        synchronized void add(BookingSlot slot) {
+            slots.add(slot);
+        }
+
+        synchronized void remove(BookingSlot slot) {
+            slots.remove(slot);
+        }
+
+        synchronized boolean overlaps(LocalDateTime startAt, LocalDateTime endAt) {
+            // Bookings of the same room never overlap each other, so only the last one
+            // starting before endAt can still be running at startAt.
+            BookingSlot candidate = slots.lower(probe(endAt));
+            return candidate != null && candidate.endAt().isAfter(startAt);
+        }
+
+        synchronized List<BookingSlot> between(LocalDateTime from, LocalDateTime to) {
+            List<BookingSlot> result = new ArrayList<>();
+            // Same reasoning: at most one booking starting before from can reach into the window.
+            BookingSlot running = slots.lower(probe(from));
+            if (running != null && running.endAt().isAfter(from)) {
+                result.add(running);
+            }
+            result.addAll(slots.subSet(probe(from), true, probe(to), false));
+            return result;
+        }
+
+        private static BookingSlot probe(LocalDateTime at) {
+            return new BookingSlot(Long.MIN_VALUE, null, null, at, at);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsArchivedEvent;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.repository.BookingRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RoomOccupancyStore implements SmartInitializingSingleton {
+    static final int SLOT_SECONDS = 15 * 60;
+    static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+
+    private final BookingRepository bookingRepository;
+    private final RebuildableState<Map<Long, RoomOccupancy>> rooms = new RebuildableState<>(new ConcurrentHashMap<>());
+
+    public RoomOccupancyStore(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    // Swapped in whole, so a reload never shows an empty store that reports every room as free.
+    public synchronized void reload() {
+        rooms.rebuild(() -> {
+            Map<Long, RoomOccupancy> loaded = new ConcurrentHashMap<>();
+            for (BookingSlot slot : bookingRepository.findAllSlots()) {
+                loaded.computeIfAbsent(slot.roomId(), id -> new RoomOccupancy()).apply(slot, 1);
+            }
+            return loaded;
+        });
+    }
+
+    // Slots are marked busy as soon as any booking touches them, so a clear bitmap
+    // proves the room is free while a set bit may still come from a partial slot.
+    public boolean mayBeBusy(Long roomId, LocalDateTime from, LocalDateTime to) {
+        RoomOccupancy occupancy = rooms.get().get(roomId);
+        return occupancy != null && occupancy.intersects(from, to);
+    }
+
+    // Exact booked minutes per calendar day, from fromDay to toDay inclusive.
+    public int[] busyMinutes(Long roomId, LocalDate fromDay, LocalDate toDay) {
+        int[] minutes = new int[(int) ChronoUnit.DAYS.between(fromDay, toDay) + 1];
+        RoomOccupancy occupancy = rooms.get().get(roomId);
+        if (occupancy != null) {
+            occupancy.busyMinutes(fromDay, minutes);
+        }
+        return minutes;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCreated(BookingsCreatedEvent event) {
+        rooms.change(occupancies -> event.slots().forEach(slot -> occupancies
+                .computeIfAbsent(slot.roomId(), id -> new RoomOccupancy()).apply(slot, 1)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCancelled(BookingsCancelledEvent event) {
+        release(event.slots());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsArchived(BookingsArchivedEvent event) {
+        release(event.slots());
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        reload();
+    }
+
+    private void release(List<BookingSlot> slots) {
+        rooms.change(occupancies -> slots.forEach(slot -> {
+            RoomOccupancy occupancy = occupancies.get(slot.roomId());
+            if (occupancy != null) {
+                occupancy.apply(slot, -1);
+            }
+        }));
+    }
+
+    static final class RoomOccupancy {
+        private final Map<LocalDate, DayOccupancy> days = new HashMap<>();
+        // Counts are not idempotent on their own, and a rebuild may replay a change its snapshot
+        // already holds: each booking is counted at most once.
+        private final Set<Long> bookingIds = new HashSet<>();
+
+        synchronized void apply(BookingSlot slot, int delta) {
+            if (delta > 0 ? !bookingIds.add(slot.id()) : !bookingIds.remove(slot.id())) {
+                return;
+            }
+            LocalDate day = slot.startAt().toLocalDate();
+            while (day.atStartOfDay().isBefore(slot.endAt())) {
+                int first = firstSlot(day, slot.startAt());
+                int last = lastSlot(day, slot.endAt());
+                int minutes = minutesWithin(day, slot.startAt(), slot.endAt());
+
+                if (delta > 0) {
+                    days.computeIfAbsent(day, d -> new DayOccupancy()).add(first, last, minutes);
+                } else {
+                    DayOccupancy occupancy = days.get(day);
+                    if (occupancy != null && occupancy.remove(first, last, minutes)) {
+                        days.remove(day);
+                    }
+                }
+                day = day.plusDays(1);
+            }
+        }
+
+        synchronized boolean intersects(LocalDateTime from, LocalDateTime to) {
+            LocalDate day = from.toLocalDate();
+            while (day.atStartOfDay().isBefore(to)) {
+                DayOccupancy occupancy = days.get(day);
+                if (occupancy != null && occupancy.intersects(firstSlot(day, from), lastSlot(day, to))) {
+                    return true;
+                }
+                day = day.plusDays(1);
+            }
+            return false;
+        }
+
+        synchronized void busyMinutes(LocalDate fromDay, int[] minutes) {
+            for (int i = 0; i < minutes.length; i++) {
+                DayOccupancy occupancy = days.get(fromDay.plusDays(i));
+                minutes[i] = occupancy != null ? occupancy.busyMinutes : 0;
+            }
+        }
+
+        private static int minutesWithin(LocalDate day, LocalDateTime startAt, LocalDateTime endAt) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            LocalDateTime from = startAt.isAfter(dayStart) ? startAt : dayStart;
+            LocalDateTime to = endAt.isBefore(dayEnd) ? endAt : dayEnd;
+            return (int) Duration.between(from, to).toMinutes();
+        }
+
+        private static int firstSlot(LocalDate day, LocalDateTime startAt) {
+            return startAt.toLocalDate().isBefore(day) ? 0 : startAt.toLocalTime().toSecondOfDay() / SLOT_SECONDS;
+        }
+
+        private static int lastSlot(LocalDate day, LocalDateTime endAt) {
+            return endAt.toLocalDate().isAfter(day)
+                    ? SLOTS_PER_DAY
+                    : Math.ceilDiv(endAt.toLocalTime().toSecondOfDay(), SLOT_SECONDS);
+        }
+    }
+
+    static final class DayOccupancy {
+        private final long[] busy = new long[(SLOTS_PER_DAY + 63) / 64];
+        private final byte[] refs = new byte[SLOTS_PER_DAY];
+        // Bookings of one room never overlap, so summing them gives the exact busy time of the day.
+        private int busyMinutes;
+
+        void add(int first, int last, int minutes) {
+            busyMinutes += minutes;
+            for (int i = first; i < last; i++) {
+                if (refs[i]++ == 0) {
+                    busy[i >> 6] |= 1L << i;
+                }
+            }
+        }
+
+        boolean remove(int first, int last, int minutes) {
+            busyMinutes -= minutes;
+            for (int i = first; i < last; i++) {
+                if (refs[i] > 0 && --refs[i] == 0) {
+                    busy[i >> 6] &= ~(1L << i);
+                }
+            }
+            for (long word : busy) {
+                if (word != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean intersects(int first, int last) {
+            for (int word = first >> 6; word <= (last - 1) >> 6 && word < busy.length; word++) {
+                long mask = -1L;
+                if (word == first >> 6) {
+                    mask &= -1L << first;
+                }
+                if (word == (last - 1) >> 6) {
+                    mask &= -1L >>> (63 - ((last - 1) & 63));
+                }
+                if ((busy[word] & mask) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,39 +1,166 @@
 package com.room.scheduler.service;
 
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.dto.DailyOccupancy;
+import com.room.scheduler.dto.RoomDeletionCascade;
+import com.room.scheduler.dto.RoomDeletionResponse;
 import com.room.scheduler.dto.RoomRequest;
+import com.room.scheduler.dto.RoomSchedule;
+import com.room.scheduler.dto.ScheduleInterval;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.RoomsChangedEvent;
 import com.room.scheduler.model.Room;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.BookingSeriesRepository;
 import com.room.scheduler.repository.RoomRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class RoomService {
+    private static final Duration MAX_AVAILABILITY_WINDOW = Duration.ofDays(31);
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
     private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesRepository seriesRepository;
+    private final BookingArchiver bookingArchiver;
+    private final RoomCatalog roomCatalog;
+    private final RoomOccupancyStore occupancyStore;
+    private final RoomIntervalIndex intervalIndex;
+    private final BookingHoldRegistry holdRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoomService(RoomRepository roomRepository) {
+    public RoomService(RoomRepository roomRepository, BookingRepository bookingRepository,
+            BookingSeriesRepository seriesRepository, BookingArchiver bookingArchiver, RoomCatalog roomCatalog,
+            RoomOccupancyStore occupancyStore, RoomIntervalIndex intervalIndex, BookingHoldRegistry holdRegistry,
+            ApplicationEventPublisher eventPublisher) {
         this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.seriesRepository = seriesRepository;
+        this.bookingArchiver = bookingArchiver;
+        this.roomCatalog = roomCatalog;
+        this.occupancyStore = occupancyStore;
+        this.intervalIndex = intervalIndex;
+        this.holdRegistry = holdRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public Room createRoom(RoomRequest request) {
         Room room = new Room();
         room.setName(request.getName());
         room.setCapacity(request.getCapacity());
 
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomsChangedEvent());
+        return saved;
+    }
+
+    // Set-based throughout: future bookings go in one DELETE and, for cascade=future, the ones that
+    // already started are archived in one INSERT ... SELECT. Repeatable read makes the slots read for
+    // the events the same rows the DELETE removes.
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public RoomDeletionResponse delete(Long id, RoomDeletionCascade cascade) {
+        if (!roomRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        List<BookingSlot> slots = List.of();
+        int cancelled = 0;
+        int archived = 0;
+        if (cascade == null) {
+            if (bookingRepository.existsByRoomId(id)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A sala possui reservas: use cascade=future ou cascade=all");
+            }
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime from = cascade == RoomDeletionCascade.FUTURE ? now : null;
+            slots = bookingRepository.findSlotsStartingBetween(id, null, from, null);
+            cancelled = bookingRepository.deleteStartingBetween(id, null, from, null);
+            if (cascade == RoomDeletionCascade.FUTURE) {
+                archived = bookingArchiver.archiveRoom(id, now);
+            }
+        }
+
+        try {
+            seriesRepository.deleteByRoomId(id);
+            roomRepository.deleteRoom(id);
+        } catch (DataIntegrityViolationException e) {
+            // A booking for this room committed elsewhere after our snapshot was taken.
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A sala recebeu novas reservas, tente novamente");
+        }
+
+        if (!slots.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsCancelledEvent(slots));
+        }
+        eventPublisher.publishEvent(new RoomsChangedEvent());
+        holdRegistry.releaseRoom(id);
+        return new RoomDeletionResponse(cancelled, archived);
+    }
+
+    public RoomCatalog.Snapshot catalog() {
+        return roomCatalog.snapshot();
     }
 
-    public void delete(Long id) {
-        roomRepository.deleteById(id);
+    public List<Room> listAvailable(LocalDateTime from, LocalDateTime to, int minCapacity) {
+        if (!to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O fim deve ser depois do início");
+        }
+        if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A busca pode cobrir no máximo 31 dias");
+        }
+
+        return roomCatalog.rooms().stream()
+                .filter(room -> room.getCapacity() >= minCapacity)
+                .filter(room -> isFree(room.getId(), from, to))
+                .toList();
     }
 
-    public List<Room> listAll() {
-        return roomRepository.findAll();
+    // Served entirely from memory: intervals from the index, per-day minutes from the occupancy store.
+    public RoomSchedule schedule(Long roomId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O fim deve ser depois do início");
+        }
+        if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A agenda pode cobrir no máximo 31 dias");
+        }
+        if (roomCatalog.rooms().stream().noneMatch(room -> room.getId().equals(roomId))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        List<BookingSlot> slots = intervalIndex.isReady()
+                ? intervalIndex.between(roomId, from, to)
+                : bookingRepository.findSlotsOverlapping(List.of(roomId), from, to);
+        List<ScheduleInterval> busy = slots.stream()
+                .map(slot -> new ScheduleInterval(slot.startAt(), slot.endAt()))
+                .toList();
+
+        LocalDate firstDay = from.toLocalDate();
+        int[] minutes = occupancyStore.busyMinutes(roomId, firstDay, to.minusNanos(1).toLocalDate());
+        List<DailyOccupancy> days = new ArrayList<>(minutes.length);
+        for (int i = 0; i < minutes.length; i++) {
+            double percent = Math.round(minutes[i] * 1000.0 / MINUTES_PER_DAY) / 10.0;
+            days.add(new DailyOccupancy(firstDay.plusDays(i), minutes[i], percent));
+        }
+
+        return new RoomSchedule(roomId, from, to, busy, days);
     }
 
+    @Transactional
     public Room updateRoom(Long id, RoomRequest request) {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
@@ -41,6 +168,22 @@ public class RoomService {
         room.setName(request.getName());
         room.setCapacity(request.getCapacity());
 
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomsChangedEvent());
+        return saved;
+    }
+
+    private boolean isFree(Long roomId, LocalDateTime from, LocalDateTime to) {
+        if (holdRegistry.overlaps(roomId, from, to, null)) {
+            return false;
+        }
+        if (!occupancyStore.mayBeBusy(roomId, from, to)) {
+            return true;
+        }
+        // The bitmap only knows 15-minute slots; the interval index, or the database while the
+        // index is disabled or still loading, settles partial ones exactly.
+        return intervalIndex.isReady()
+                ? !intervalIndex.overlaps(roomId, from, to)
+                : !bookingRepository.existsOverlappingBooking(roomId, from, to);
     }
 }
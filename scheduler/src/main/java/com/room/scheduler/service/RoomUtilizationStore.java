@@ -0,0 +1,143 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.ClusterResyncEvent;
+import com.room.scheduler.repository.BookingHistoryRepository;
+import com.room.scheduler.repository.BookingRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Booked minutes per room, day and hour. Unlike RoomOccupancyStore it also counts archived
+// bookings, so it is rebuilt from both tables and archival leaves the totals untouched.
+@Component
+public class RoomUtilizationStore implements SmartInitializingSingleton {
+    private final BookingRepository bookingRepository;
+    private final BookingHistoryRepository historyRepository;
+    private final RebuildableState<Map<Long, RoomHours>> rooms = new RebuildableState<>(new ConcurrentHashMap<>());
+
+    public RoomUtilizationStore(BookingRepository bookingRepository, BookingHistoryRepository historyRepository) {
+        this.bookingRepository = bookingRepository;
+        this.historyRepository = historyRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // Swapped in whole, so a rebuild never shows empty or half-loaded rooms to readers.
+    public synchronized void rebuild() {
+        rooms.rebuild(() -> {
+            Map<Long, RoomHours> loaded = new ConcurrentHashMap<>();
+            for (List<BookingSlot> slots : List.of(historyRepository.findAllSlots(), bookingRepository.findAllSlots())) {
+                slots.forEach(slot -> loaded.computeIfAbsent(slot.roomId(), id -> new RoomHours()).apply(slot, 1));
+            }
+            return loaded;
+        });
+    }
+
+    // One entry per hour of [from, to); both ends must fall on whole hours.
+    public int[] hourlyMinutes(Long roomId, LocalDateTime from, LocalDateTime to) {
+        int[] minutes = new int[(int) ChronoUnit.HOURS.between(from, to)];
+        RoomHours hours = rooms.get().get(roomId);
+        if (hours != null) {
+            hours.hourly(from, minutes);
+        }
+        return minutes;
+    }
+
+    // One entry per day from fromDay to toDay inclusive.
+    public int[] dailyMinutes(Long roomId, LocalDate fromDay, LocalDate toDay) {
+        int[] minutes = new int[(int) ChronoUnit.DAYS.between(fromDay, toDay) + 1];
+        RoomHours hours = rooms.get().get(roomId);
+        if (hours != null) {
+            hours.daily(fromDay, minutes);
+        }
+        return minutes;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCreated(BookingsCreatedEvent event) {
+        rooms.change(hours -> event.slots()
+                .forEach(slot -> hours.computeIfAbsent(slot.roomId(), id -> new RoomHours()).apply(slot, 1)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCancelled(BookingsCancelledEvent event) {
+        rooms.change(hours -> event.slots().forEach(slot -> {
+            RoomHours room = hours.get(slot.roomId());
+            if (room != null) {
+                room.apply(slot, -1);
+            }
+        }));
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        rebuild();
+    }
+
+    static final class RoomHours {
+        private final Map<LocalDate, DayHours> days = new HashMap<>();
+        // Same guard as RoomOccupancyStore: replayed changes and rows read from both tables count once.
+        private final Set<Long> bookingIds = new HashSet<>();
+
+        synchronized void apply(BookingSlot slot, int sign) {
+            if (sign > 0 ? !bookingIds.add(slot.id()) : !bookingIds.remove(slot.id())) {
+                return;
+            }
+            LocalDateTime hour = slot.startAt().truncatedTo(ChronoUnit.HOURS);
+            while (hour.isBefore(slot.endAt())) {
+                LocalDateTime next = hour.plusHours(1);
+                LocalDateTime from = slot.startAt().isAfter(hour) ? slot.startAt() : hour;
+                LocalDateTime to = slot.endAt().isBefore(next) ? slot.endAt() : next;
+                int minutes = (int) Duration.between(from, to).toMinutes();
+
+                LocalDate day = hour.toLocalDate();
+                DayHours dayHours = days.computeIfAbsent(day, d -> new DayHours());
+                dayHours.hours[hour.getHour()] += (short) (sign * minutes);
+                dayHours.total += sign * minutes;
+                if (dayHours.total == 0) {
+                    days.remove(day);
+                }
+                hour = next;
+            }
+        }
+
+        synchronized void hourly(LocalDateTime from, int[] minutes) {
+            for (int i = 0; i < minutes.length; i++) {
+                LocalDateTime hour = from.plusHours(i);
+                DayHours dayHours = days.get(hour.toLocalDate());
+                minutes[i] = dayHours != null ? dayHours.hours[hour.getHour()] : 0;
+            }
+        }
+
+        synchronized void daily(LocalDate fromDay, int[] minutes) {
+            for (int i = 0; i < minutes.length; i++) {
+                DayHours dayHours = days.get(fromDay.plusDays(i));
+                minutes[i] = dayHours != null ? dayHours.total : 0;
+            }
+        }
+    }
+
+    // The day total is kept next to the hours so daily queries never sum them.
+    static final class DayHours {
+        private final short[] hours = new short[24];
+        private int total;
+    }
+}
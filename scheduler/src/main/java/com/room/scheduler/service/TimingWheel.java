@@ -0,0 +1,109 @@
+package com.room.scheduler.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hashed hierarchical timing wheel: each level has 64 slots and a slot of level n spans 64^n
+// ticks. Scheduling and cancelling are O(1), and an entry moves down at most levels - 1 times
+// before it fires, so expiring many timeouts costs the same per entry as expiring one.
+final class TimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final Timeout<T>[][] wheels;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(int levels, long startTick) {
+        this.wheels = new Timeout[levels][SLOTS];
+        for (Timeout<T>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = new Timeout<>(null, 0);
+            }
+        }
+        this.currentTick = startTick;
+    }
+
+    long span() {
+        return 1L << (BITS * wheels.length);
+    }
+
+    synchronized Timeout<T> schedule(T value, long deadlineTick) {
+        if (deadlineTick - currentTick >= span()) {
+            throw new IllegalArgumentException("Deadline beyond the wheel span");
+        }
+        Timeout<T> timeout = new Timeout<>(value, Math.max(deadlineTick, currentTick + 1));
+        place(timeout);
+        return timeout;
+    }
+
+    synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.next == null) {
+            return false;
+        }
+        timeout.unlink();
+        return true;
+    }
+
+    // Returns the values whose deadline passed while moving the wheel forward to tick.
+    synchronized List<T> advanceTo(long tick) {
+        List<T> expired = new ArrayList<>();
+        while (currentTick < tick) {
+            currentTick++;
+            // Entering a new slot of a higher level hands its entries down to finer levels.
+            for (int level = 1; level < wheels.length && (currentTick & ((1L << (BITS * level)) - 1)) == 0; level++) {
+                Timeout<T> bucket = wheels[level][(int) (currentTick >>> (BITS * level)) & MASK];
+                while (bucket.next != bucket) {
+                    Timeout<T> timeout = bucket.next;
+                    timeout.unlink();
+                    place(timeout);
+                }
+            }
+
+            Timeout<T> bucket = wheels[0][(int) currentTick & MASK];
+            while (bucket.next != bucket) {
+                Timeout<T> timeout = bucket.next;
+                timeout.unlink();
+                expired.add(timeout.value);
+            }
+        }
+        return expired;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long remaining = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (remaining >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        timeout.linkBefore(wheels[level][(int) (timeout.deadlineTick >>> (BITS * level)) & MASK]);
+    }
+
+    // Doubly linked so a cancelled entry leaves its slot without a scan; each slot head is a sentinel.
+    static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Timeout<T> prev = this;
+        private Timeout<T> next = this;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void linkBefore(Timeout<T> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
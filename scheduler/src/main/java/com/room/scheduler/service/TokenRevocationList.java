@@ -0,0 +1,38 @@
+package com.room.scheduler.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Revocations seen by this instance, checked before the principal lookup. It is only a cache:
+// User.tokensValidAfter is the durable record and is what survives a restart.
+@Component
+public class TokenRevocationList {
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    // Token issue times have whole-second precision, so every token of the user issued at or
+    // before this second is rejected; tokens from a later second (a new login) are accepted.
+    // A login within the same second as the revocation has to be repeated.
+    public Instant revoke(Long userId) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revoke(userId, now);
+        return now;
+    }
+
+    // Used for revocations made on another instance, which carry the instant they were made.
+    public void revoke(Long userId, Instant at) {
+        revokedBefore.merge(userId, at, (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+
+        // Entries older than the token lifetime can no longer match a live token.
+        Instant horizon = Instant.now().minus(TokenService.TOKEN_LIFETIME);
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(horizon));
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        Instant revokedAt = revokedBefore.get(userId);
+        return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+    }
+}
@@ -1,29 +1,73 @@
 package com.room.scheduler.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.room.scheduler.dto.TokenClaims;
 import com.room.scheduler.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class TokenService {
-    @Value("${api.security.token.secret")
-    private String secret;
+    static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+    private static final String ISSUER = "auth-api";
+
+    // Algorithm and JWTVerifier are immutable and thread-safe, so one instance serves every request.
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, TokenClaims> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer fullVerifications;
+
+    public TokenService(MeterRegistry meterRegistry, @Value("${api.security.token.secret}") String secret,
+            @Value("${api.security.token.verified-cache.enabled}") boolean cacheEnabled,
+            @Value("${api.security.token.verified-cache.ttl}") Duration cacheTtl,
+            @Value("${api.security.token.verified-cache.max-size}") long cacheMaxSize) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = cacheEnabled ? Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheTtl))
+                .build() : null;
+        this.cachedVerifications = verifyTimer(meterRegistry, "cache");
+        this.fullVerifications = verifyTimer(meterRegistry, "verifier");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("auth.token.verify")
+                .description("Time to verify a bearer token")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return JWT.create()
-                    .withIssuer("auth-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getEmail())
+                    .withClaim("uid", user.getId())
+                    .withClaim("name", user.getName())
                     .withClaim("role", user.getRole())
+                    .withIssuedAt(Instant.now())
                     .withExpiresAt(genExpirationDate())
                     .sign(algorithm);
         } catch (JWTCreationException exception) {
@@ -31,20 +75,71 @@ public class TokenService {
         }
     }
 
-    public String validateToken(String token) {
+    public TokenClaims verify(String token) {
+        long start = System.nanoTime();
+        if (verifiedTokens == null) {
+            return fullVerifications.record(() -> decode(token));
+        }
+
+        String digest = digest(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        TokenClaims claims = decode(token);
+        fullVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (claims != null && claims.expiresAt() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private TokenClaims decode(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("auth-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT decoded = verifier.verify(token);
+            return new TokenClaims(
+                    decoded.getSubject(),
+                    decoded.getClaim("uid").asLong(),
+                    decoded.getClaim("name").asString(),
+                    decoded.getClaim("role").asString(),
+                    decoded.getIssuedAtAsInstant(),
+                    decoded.getExpiresAtAsInstant());
         } catch (JWTVerificationException exception) {
-            return "";
+            return null;
+        }
+    }
+
+    // Only a digest of the token is kept, so the cache never holds usable bearer tokens.
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
     private Instant genExpirationDate() {
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        return Instant.now().plus(TOKEN_LIFETIME);
+    }
+
+    private record TokenExpiry(Duration ttl) implements Expiry<String, TokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+            Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt());
+            return Math.max(0, Math.min(ttl.toNanos(), untilExpiry.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
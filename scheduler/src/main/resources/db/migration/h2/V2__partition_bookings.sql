@@ -0,0 +1,5 @@
+-- H2 has neither partitions nor exclusion constraints; only the indexes carry over.
+
+CREATE INDEX idx_bookings_room_time ON tb_bookings (room_id, start_at, end_at);
+CREATE INDEX idx_bookings_user_start ON tb_bookings (user_id, start_at DESC, id DESC);
+CREATE INDEX idx_bookings_series_start ON tb_bookings (series_id, start_at);
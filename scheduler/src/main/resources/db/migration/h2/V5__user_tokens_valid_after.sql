@@ -0,0 +1,3 @@
+-- Tokens issued at or before this instant are rejected. Persisted so a revocation outlives restarts.
+
+ALTER TABLE tb_users ADD COLUMN tokens_valid_after TIMESTAMP(6) WITH TIME ZONE;
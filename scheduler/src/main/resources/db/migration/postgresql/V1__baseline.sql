@@ -0,0 +1,39 @@
+-- Schema as it stood under ddl-auto=update. Databases created that way are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and never run this script.
+
+CREATE TABLE tb_users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE tb_rooms (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    capacity INTEGER NOT NULL
+);
+
+CREATE TABLE tb_booking_series (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    frequency VARCHAR(255) NOT NULL,
+    repeat_interval INTEGER NOT NULL,
+    start_at TIMESTAMP(6) NOT NULL,
+    end_at TIMESTAMP(6) NOT NULL,
+    until_date DATE,
+    occurrence_count INTEGER,
+    room_id BIGINT NOT NULL REFERENCES tb_rooms (id),
+    user_id BIGINT NOT NULL REFERENCES tb_users (id)
+);
+
+CREATE SEQUENCE tb_bookings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tb_bookings (
+    id BIGINT NOT NULL PRIMARY KEY,
+    start_at TIMESTAMP(6) NOT NULL,
+    end_at TIMESTAMP(6) NOT NULL,
+    room_id BIGINT NOT NULL REFERENCES tb_rooms (id),
+    user_id BIGINT NOT NULL REFERENCES tb_users (id),
+    series_id BIGINT
+);
@@ -0,0 +1,150 @@
+-- Monthly range partitions on start_at, the indexes behind the overlap check and the
+-- per-user listing, and a per-partition exclusion constraint against double bookings.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Databases baselined at version 1 come from ddl-auto and may predate recurring series and the
+-- pooled booking sequence.
+CREATE SEQUENCE IF NOT EXISTS tb_bookings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_booking_series (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    frequency VARCHAR(255) NOT NULL,
+    repeat_interval INTEGER NOT NULL,
+    start_at TIMESTAMP(6) NOT NULL,
+    end_at TIMESTAMP(6) NOT NULL,
+    until_date DATE,
+    occurrence_count INTEGER,
+    room_id BIGINT NOT NULL REFERENCES tb_rooms (id),
+    user_id BIGINT NOT NULL REFERENCES tb_users (id)
+);
+
+ALTER TABLE tb_bookings ADD COLUMN IF NOT EXISTS series_id BIGINT;
+
+-- Legacy rows that break the new rules would otherwise abort the copy below on the first
+-- violation without naming the row. All of them are reported up front instead; they have to be
+-- fixed by hand, since the overlap scans rely on no booking lasting more than 31 days.
+DO $$
+DECLARE
+    overlapping TEXT;
+    out_of_range TEXT;
+BEGIN
+    SELECT string_agg(format('%s (sala %s)', id, room_id), ', ' ORDER BY room_id, start_at, id) INTO overlapping
+    FROM (SELECT id, room_id, start_at,
+                 max(end_at) OVER (PARTITION BY room_id ORDER BY start_at, id
+                                   ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING) AS previous_end
+          FROM tb_bookings) ordered
+    WHERE start_at < previous_end;
+
+    SELECT string_agg(id::TEXT, ', ' ORDER BY id) INTO out_of_range
+    FROM tb_bookings
+    WHERE end_at <= start_at OR end_at > start_at + INTERVAL '31 days';
+
+    IF overlapping IS NOT NULL OR out_of_range IS NOT NULL THEN
+        RAISE EXCEPTION 'tb_bookings tem reservas incompatíveis com o particionamento'
+            USING DETAIL = format('Sobrepostas a uma reserva anterior da mesma sala: %s. '
+                    || 'Com fim antes do início ou mais de 31 dias: %s.',
+                    COALESCE(overlapping, 'nenhuma'), COALESCE(out_of_range, 'nenhuma')),
+                HINT = 'Cancele ou corrija essas reservas e rode a migração novamente.';
+    END IF;
+END;
+$$;
+
+ALTER TABLE tb_bookings RENAME TO tb_bookings_unpartitioned;
+ALTER TABLE tb_bookings_unpartitioned RENAME CONSTRAINT tb_bookings_pkey TO tb_bookings_unpartitioned_pkey;
+
+-- The partition key has to be part of the primary key; ids still come from tb_bookings_seq alone.
+CREATE TABLE tb_bookings (
+    id BIGINT NOT NULL,
+    start_at TIMESTAMP(6) NOT NULL,
+    end_at TIMESTAMP(6) NOT NULL,
+    room_id BIGINT NOT NULL REFERENCES tb_rooms (id),
+    user_id BIGINT NOT NULL REFERENCES tb_users (id),
+    series_id BIGINT,
+    CONSTRAINT tb_bookings_pkey PRIMARY KEY (id, start_at),
+    CONSTRAINT tb_bookings_valid_range CHECK (end_at > start_at AND end_at <= start_at + INTERVAL '31 days')
+) PARTITION BY RANGE (start_at);
+
+CREATE INDEX idx_bookings_room_time ON tb_bookings (room_id, start_at, end_at);
+CREATE INDEX idx_bookings_user_start ON tb_bookings (user_id, start_at DESC, id DESC);
+CREATE INDEX idx_bookings_series_start ON tb_bookings (series_id, start_at) WHERE series_id IS NOT NULL;
+
+-- Exclusion constraints on a partitioned table must compare the partition key with equality,
+-- so each month carries its own; check_booking_overlap below covers bookings that cross a month.
+-- Bookings made beyond the horizon sit in the default partition, which would refuse a partition
+-- overlapping them, so they are moved into the new table before it is attached.
+CREATE FUNCTION create_booking_partition(month_start DATE) RETURNS VOID AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month_start)::DATE;
+    next_first_day DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'tb_bookings_' || to_char(first_day, 'YYYY_MM');
+BEGIN
+    -- Several instances run the maintainer; only one creates a given month.
+    PERFORM pg_advisory_xact_lock(hashtext('create_booking_partition'));
+
+    IF to_regclass(partition_name) IS NULL THEN
+        -- Holds off inserts into the default partition until the rows it still has for this month are gone.
+        LOCK TABLE tb_bookings_default IN EXCLUSIVE MODE;
+        EXECUTE format('CREATE TABLE %I (LIKE tb_bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                partition_name);
+        EXECUTE format('WITH moved AS (DELETE FROM tb_bookings_default WHERE start_at >= %L AND start_at < %L '
+                || 'RETURNING *) INSERT INTO %I SELECT * FROM moved', first_day, next_first_day, partition_name);
+        EXECUTE format('ALTER TABLE tb_bookings ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, first_day, next_first_day);
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = partition_name || '_no_overlap') THEN
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist '
+                || '(room_id WITH =, tsrange(start_at, end_at) WITH &&)',
+                partition_name, partition_name || '_no_overlap');
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows outside every monthly partition land here until BookingPartitionMaintainer catches up.
+CREATE TABLE tb_bookings_default PARTITION OF tb_bookings DEFAULT;
+ALTER TABLE tb_bookings_default ADD CONSTRAINT tb_bookings_default_no_overlap EXCLUDE USING gist
+    (room_id WITH =, tsrange(start_at, end_at) WITH &&);
+
+DO $$
+DECLARE
+    next_month DATE := date_trunc('month', LEAST(
+            COALESCE((SELECT min(start_at) FROM tb_bookings_unpartitioned), now()), now()))::DATE;
+BEGIN
+    WHILE next_month <= date_trunc('month', now() + INTERVAL '12 months') LOOP
+        PERFORM create_booking_partition(next_month);
+        next_month := (next_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO tb_bookings (id, start_at, end_at, room_id, user_id, series_id)
+SELECT id, start_at, end_at, room_id, user_id, series_id
+FROM tb_bookings_unpartitioned;
+
+DROP TABLE tb_bookings_unpartitioned;
+
+-- The per-partition constraints miss a booking that crosses into the next partition, and each
+-- instance has its own writer per room. A per-room advisory lock serialises admissions across
+-- instances, so the check below sees every committed neighbour. Bookings last at most 31 days,
+-- which bounds the scan.
+CREATE FUNCTION check_booking_overlap() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtextextended('tb_bookings:' || NEW.room_id, 0));
+    IF EXISTS (SELECT 1 FROM tb_bookings
+               WHERE room_id = NEW.room_id
+                 AND id <> NEW.id
+                 AND start_at > NEW.start_at - INTERVAL '31 days'
+                 AND start_at < NEW.end_at
+                 AND end_at > NEW.start_at) THEN
+        RAISE EXCEPTION 'Reserva sobreposta na sala %', NEW.room_id USING ERRCODE = 'exclusion_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tb_bookings_no_overlap BEFORE INSERT OR UPDATE OF room_id, start_at, end_at ON tb_bookings
+    FOR EACH ROW EXECUTE FUNCTION check_booking_overlap();
+
+-- Databases that started with identity ids need the pooled sequence moved past them.
+SELECT setval('tb_bookings_seq', (SELECT COALESCE(max(id), 0) + 1 FROM tb_bookings));
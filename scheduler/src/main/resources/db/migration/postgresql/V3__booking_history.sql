@@ -0,0 +1,19 @@
+-- Past bookings moved out of tb_bookings by BookingArchiver. No foreign keys: rooms and users
+-- may be deleted later, and the names needed to read a row are copied into it.
+
+CREATE TABLE tb_bookings_history (
+    id BIGINT NOT NULL PRIMARY KEY,
+    room_id BIGINT NOT NULL,
+    room_name VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    start_at TIMESTAMP(6) NOT NULL,
+    end_at TIMESTAMP(6) NOT NULL,
+    series_id BIGINT,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_bookings_history_start ON tb_bookings_history (start_at, id);
+CREATE INDEX idx_bookings_history_room_start ON tb_bookings_history (room_id, start_at);
+CREATE INDEX idx_bookings_history_user_start ON tb_bookings_history (user_id, start_at);
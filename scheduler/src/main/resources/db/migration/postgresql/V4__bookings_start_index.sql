@@ -0,0 +1,3 @@
+-- Keyset index for the unfiltered booking listing, which seeks on (start_at, id) in both directions.
+
+CREATE INDEX idx_bookings_start ON tb_bookings (start_at, id);
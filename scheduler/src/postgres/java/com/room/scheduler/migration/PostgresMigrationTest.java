@@ -0,0 +1,124 @@
+package com.room.scheduler.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the Postgres migrations on a real server, from a database created at V1 with legacy rows in it.
+// One container per test, so each starts from an empty database.
+@Testcontainers(disabledWithoutDocker = true)
+public class PostgresMigrationTest {
+    private static final long BIG_ROOM_ID = 3_000_000_000L;
+
+    @Container
+    private final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:15-alpine");
+
+    // Two months ahead, so both sides of the boundary get a monthly partition.
+    private final LocalDateTime boundary = LocalDate.now().withDayOfMonth(1).plusMonths(2).atStartOfDay();
+
+    @Test
+    @DisplayName("Deve recusar a migração listando reservas legadas sobrepostas ou longas demais")
+    void shouldReportIncompatibleLegacyRows() throws SQLException {
+        migrate("1");
+        try (Connection connection = connect()) {
+            seedRoomAndUser(connection, 1L);
+            insertBooking(connection, 1L, 1L, boundary.plusHours(9), boundary.plusHours(11));
+            insertBooking(connection, 2L, 1L, boundary.plusHours(10), boundary.plusHours(12));
+            insertBooking(connection, 3L, 1L, boundary.plusDays(3), boundary.plusDays(40));
+        }
+
+        FlywayException e = assertThrows(FlywayException.class, () -> migrate(null));
+
+        String messages = messagesOf(e);
+        assertTrue(messages.contains("2 (sala 1)"), messages);
+        assertTrue(messages.contains("mais de 31 dias: 3."), messages);
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            var rows = statement.executeQuery("SELECT count(*) FROM tb_bookings");
+            rows.next();
+            assertEquals(3, rows.getInt(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve migrar as reservas legadas e recusar sobreposições entre partições")
+    void shouldMigrateAndRejectOverlapsAcrossPartitions() throws SQLException {
+        migrate("1");
+        try (Connection connection = connect()) {
+            seedRoomAndUser(connection, BIG_ROOM_ID);
+            insertBooking(connection, 1L, BIG_ROOM_ID, boundary.plusHours(1), boundary.plusHours(3));
+        }
+
+        migrate(null);
+
+        try (Connection connection = connect()) {
+            // Starts in the previous month's partition and overlaps the legacy row in the next one.
+            SQLException e = assertThrows(SQLException.class, () -> insertBooking(connection, 100L, BIG_ROOM_ID,
+                    boundary.minusHours(2), boundary.plusHours(2)));
+            assertEquals("23P01", e.getSQLState());
+
+            // Room ids past 2^31 take the per-room lock without overflowing.
+            assertDoesNotThrow(() -> insertBooking(connection, 101L, BIG_ROOM_ID, boundary.minusHours(2),
+                    boundary.plusHours(1)));
+        }
+    }
+
+    private void migrate(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration/postgresql");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private void seedRoomAndUser(Connection connection, long roomId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO tb_users (id, name, email, password, role) "
+                    + "VALUES (1, 'Legado', 'legado@test.com', 'secret', 'USER')");
+            statement.executeUpdate("INSERT INTO tb_rooms (id, name, capacity) VALUES (" + roomId + ", 'Sala', 4)");
+        }
+    }
+
+    private void insertBooking(Connection connection, long id, long roomId, LocalDateTime startAt,
+            LocalDateTime endAt) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO tb_bookings (id, start_at, end_at, room_id, user_id) VALUES (?, ?, ?, ?, 1)")) {
+            statement.setLong(1, id);
+            statement.setTimestamp(2, Timestamp.valueOf(startAt));
+            statement.setTimestamp(3, Timestamp.valueOf(endAt));
+            statement.setLong(4, roomId);
+            statement.executeUpdate();
+        }
+    }
+
+    private static String messagesOf(Throwable e) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+}
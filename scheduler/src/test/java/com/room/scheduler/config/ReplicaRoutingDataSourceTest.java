@@ -0,0 +1,106 @@
+package com.room.scheduler.config;
+
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.service.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReplicaRoutingDataSourceTest {
+    private static final AuthenticatedUser USER = new AuthenticatedUser(7L, "Ana", "ana@room.com", "USER");
+
+    private DriverManagerDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = database("primary");
+        replica = database("replica");
+        tracker = new ReadYourWritesTracker("jdbc:h2:mem:replica", Duration.ofMinutes(1));
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), tracker,
+                new SimpleMeterRegistry(), "SELECT lag_seconds FROM node", Duration.ofSeconds(2), 60_000);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura à réplica e as demais ao primário")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Deve manter no primário as leituras de quem acabou de escrever")
+    void shouldKeepRecentWriterOnPrimary() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null, List.of()));
+        tracker.markWrite(USER);
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        tracker.markWrite(new AuthenticatedUser(8L, "Bia", "bia@room.com", "USER"));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(9L, "Caio", "caio@room.com", "USER"), null, List.of()));
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário enquanto a réplica estiver atrasada")
+    void shouldFallBackToPrimaryWhileReplicaLags() {
+        new JdbcTemplate(replica).update("UPDATE node SET lag_seconds = 30");
+        routing.checkLag();
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        new JdbcTemplate(replica).update("UPDATE node SET lag_seconds = 0.5");
+        routing.checkLag();
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), lag_seconds DOUBLE PRECISION)");
+        jdbcTemplate.update("INSERT INTO node (name, lag_seconds) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,106 @@
+package com.room.scheduler.config;
+
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.UserRepository;
+import com.room.scheduler.service.PrincipalCache;
+import com.room.scheduler.service.TokenRevocationList;
+import com.room.scheduler.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SecurityFilterTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenService tokenService = new TokenService(meterRegistry, "test-secret", true,
+            Duration.ofSeconds(30), 100);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token revogado nesta instância no modo sem estado")
+    void shouldRejectTokenRevokedInMemory() throws Exception {
+        User user = user();
+        String token = tokenService.generateToken(user);
+        TokenRevocationList revocationList = new TokenRevocationList();
+        revocationList.revoke(user.getId());
+
+        assertNull(authenticate(filter(revocationList, true), token));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token revogado antes de um reinício, com ou sem estado")
+    void shouldRejectTokenRevokedBeforeRestart() throws Exception {
+        User user = user();
+        String token = tokenService.generateToken(user);
+        // A fresh revocation list is what a restarted instance starts with.
+        user.setTokensValidAfter(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        assertNull(authenticate(filter(new TokenRevocationList(), true), token));
+        assertNull(authenticate(filter(new TokenRevocationList(), false), token));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens emitidos depois da revogação")
+    void shouldAcceptTokenIssuedAfterRevocation() throws Exception {
+        User user = user();
+        user.setTokensValidAfter(Instant.now().minusSeconds(10));
+        String token = tokenService.generateToken(user);
+
+        assertNotNull(authenticate(filter(new TokenRevocationList(), true), token));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token de um usuário excluído no modo sem estado")
+    void shouldRejectTokenOfDeletedUser() throws Exception {
+        User user = user();
+        String token = tokenService.generateToken(user);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.empty());
+
+        assertNull(authenticate(filter(new TokenRevocationList(), true), token));
+    }
+
+    private SecurityFilter filter(TokenRevocationList revocationList, boolean stateless) {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, meterRegistry, Duration.ofMinutes(1), 100);
+        return new SecurityFilter(tokenService, principalCache, revocationList, meterRegistry, stateless);
+    }
+
+    private Authentication authenticate(SecurityFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setName("Ana");
+        user.setEmail("ana@test.com");
+        user.setRole("ADMIN");
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        return user;
+    }
+}
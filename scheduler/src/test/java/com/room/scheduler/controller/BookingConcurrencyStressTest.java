@@ -0,0 +1,143 @@
+package com.room.scheduler.controller;
+
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class BookingConcurrencyStressTest {
+    private static final int USERS = 20;
+    private static final int ROOMS = 8;
+    private static final int REQUESTS = 3000;
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Não deve haver reservas duplicadas sob milhares de requisições concorrentes sobrepostas")
+    void shouldNeverDoubleBookUnderConcurrentOverlappingRequests() throws Exception {
+        List<Long> roomIds = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room();
+            room.setName("Sala Stress " + i);
+            room.setCapacity(10);
+            roomIds.add(roomRepository.save(room).getId());
+        }
+
+        // Unique per run: the in-memory database is shared with the other tests in the JVM.
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(register("stress" + i + "-" + run + "@test.com"));
+        }
+
+        LocalDateTime day = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.DAYS);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        List<Future<Integer>> statuses = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            statuses.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                // Half-hour starts with one-hour bookings: most candidates overlap each other.
+                LocalDateTime startAt = day.plusHours(8).plusMinutes(30L * random.nextInt(16));
+                return book(tokens.get(random.nextInt(USERS)), roomIds.get(random.nextInt(ROOMS)),
+                        startAt, startAt.plusHours(1));
+            }));
+        }
+
+        int created = 0;
+        for (Future<Integer> status : statuses) {
+            int code = status.get();
+            assertTrue(code == 200 || code == 409, "Status inesperado: " + code);
+            if (code == 200) {
+                created++;
+            }
+        }
+        executor.shutdown();
+
+        List<Booking> bookings = bookingRepository.findAll().stream()
+                .filter(b -> roomIds.contains(b.getRoom().getId()))
+                .toList();
+        assertEquals(created, bookings.size());
+
+        Map<Long, List<Booking>> byRoom = bookings.stream()
+                .collect(Collectors.groupingBy(b -> b.getRoom().getId()));
+        byRoom.values().forEach(roomBookings -> {
+            roomBookings.sort(Comparator.comparing(Booking::getStartAt));
+            for (int i = 1; i < roomBookings.size(); i++) {
+                assertFalse(roomBookings.get(i).getStartAt().isBefore(roomBookings.get(i - 1).getEndAt()),
+                        "Reserva duplicada na sala " + roomBookings.get(i).getRoom().getName());
+            }
+        });
+    }
+
+    private String register(String email) throws Exception {
+        String body = """
+                {"name":"Stress","email":"%s","password":"secret","role":"USER"}
+                """.formatted(email);
+        HttpResponse<String> response = client.send(post("/api/auth/register", body, null),
+                HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = TOKEN.matcher(response.body());
+        assertTrue(matcher.find(), "Token não retornado no cadastro");
+        return matcher.group(1);
+    }
+
+    private int book(String token, Long roomId, LocalDateTime startAt, LocalDateTime endAt) throws Exception {
+        String body = """
+                {"roomId":%d,"startAt":"%s","endAt":"%s"}
+                """.formatted(roomId, startAt, endAt);
+        return client.send(post("/api/bookings", body, token), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
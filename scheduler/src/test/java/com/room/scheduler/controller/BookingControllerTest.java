@@ -0,0 +1,78 @@
+package com.room.scheduler.controller;
+
+import com.room.scheduler.dto.BookingBatchItemResult;
+import com.room.scheduler.dto.BookingBatchItemStatus;
+import com.room.scheduler.dto.BookingBatchMode;
+import com.room.scheduler.dto.BookingBatchRequest;
+import com.room.scheduler.dto.BookingBatchResponse;
+import com.room.scheduler.dto.BookingSeriesRequest;
+import com.room.scheduler.dto.BookingSeriesResponse;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.service.BookingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BookingControllerTest {
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, "Usuário", "usuario@test.com", "USER");
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final BookingController controller = new BookingController(bookingService, null, null);
+
+    @Test
+    @DisplayName("Deve responder 409 quando o lote tudo ou nada for desfeito por conflito")
+    void shouldAnswerConflictForRolledBackBatch() {
+        assertEquals(HttpStatus.CONFLICT, batchStatus(BookingBatchMode.ALL_OR_NOTHING,
+                BookingBatchItemStatus.SKIPPED, BookingBatchItemStatus.INVALID, BookingBatchItemStatus.CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 quando o lote tudo ou nada só tiver itens inválidos")
+    void shouldAnswerBadRequestForInvalidOnlyBatch() {
+        assertEquals(HttpStatus.BAD_REQUEST, batchStatus(BookingBatchMode.ALL_OR_NOTHING,
+                BookingBatchItemStatus.SKIPPED, BookingBatchItemStatus.INVALID));
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 no modo melhor esforço mesmo com itens recusados")
+    void shouldAnswerOkForBestEffortBatch() {
+        assertEquals(HttpStatus.OK, batchStatus(BookingBatchMode.BEST_EFFORT,
+                BookingBatchItemStatus.CREATED, BookingBatchItemStatus.CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 quando a série for recusada")
+    void shouldAnswerConflictForRejectedSeries() {
+        when(bookingService.createSeries(any(), any())).thenReturn(new BookingSeriesResponse(null, 0,
+                List.of(new BookingBatchItemResult(0, BookingBatchItemStatus.CONFLICT, null, null))));
+
+        assertEquals(HttpStatus.CONFLICT, controller.createSeries(new BookingSeriesRequest(), USER).getStatusCode());
+    }
+
+    private HttpStatus batchStatus(BookingBatchMode mode, BookingBatchItemStatus... statuses) {
+        List<BookingBatchItemResult> results = new ArrayList<>();
+        int created = 0;
+        for (int i = 0; i < statuses.length; i++) {
+            results.add(new BookingBatchItemResult(i, statuses[i], null, null));
+            if (statuses[i] == BookingBatchItemStatus.CREATED) {
+                created++;
+            }
+        }
+        int rejected = (int) results.stream()
+                .filter(result -> result.status() != BookingBatchItemStatus.CREATED)
+                .filter(result -> result.status() != BookingBatchItemStatus.SKIPPED)
+                .count();
+        when(bookingService.createBatch(any(), any()))
+                .thenReturn(new BookingBatchResponse(mode, created, rejected, results));
+
+        return (HttpStatus) controller.createBatch(new BookingBatchRequest(), USER).getStatusCode();
+    }
+}
@@ -0,0 +1,86 @@
+package com.room.scheduler.controller;
+
+import com.room.scheduler.model.Room;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.service.RoomCatalog;
+import com.room.scheduler.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class RoomControllerTest {
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final List<Room> rooms = new ArrayList<>();
+    private RoomCatalog catalog;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.findAll()).thenAnswer(invocation -> List.copyOf(rooms));
+        rooms.add(room(1L, "Sala Azul"));
+        catalog = new RoomCatalog(roomRepository, JsonMapper.builder().build());
+        catalog.afterSingletonsInstantiated();
+
+        RoomService roomService = mock(RoomService.class);
+        when(roomService.catalog()).thenAnswer(invocation -> catalog.snapshot());
+        mockMvc = MockMvcBuilders.standaloneSetup(new RoomController(roomService)).build();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o catálogo com ETag e 304 quando o cliente já tiver a versão atual")
+    void shouldAnswerNotModifiedForCurrentEtag() throws Exception {
+        String etag = catalog.snapshot().etag();
+
+        mockMvc.perform(get("/api/rooms"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(catalog.snapshot().json()));
+
+        mockMvc.perform(get("/api/rooms").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Deve trocar a ETag quando as salas mudarem e mantê-la ao recarregar o mesmo catálogo")
+    void shouldChangeEtagOnlyWhenRoomsChange() throws Exception {
+        String before = catalog.snapshot().etag();
+
+        catalog.reload();
+        assertEquals(before, catalog.snapshot().etag());
+
+        rooms.add(room(2L, "Sala Verde"));
+        catalog.reload();
+        String after = catalog.snapshot().etag();
+        assertNotEquals(before, after);
+
+        mockMvc.perform(get("/api/rooms").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after));
+    }
+
+    private Room room(Long id, String name) {
+        Room room = new Room();
+        room.setId(id);
+        room.setName(name);
+        room.setCapacity(6);
+        return room;
+    }
+}
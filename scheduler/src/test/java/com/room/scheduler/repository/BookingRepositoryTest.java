@@ -2,6 +2,7 @@ package com.room.scheduler.repository;
 
 import com.room.scheduler.model.Booking;
 import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -20,6 +22,9 @@ public class BookingRepositoryTest {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     @DisplayName("Deve retornar TRUE quando houver conflito de horário")
     void shouldReturnTrueWhenBookingOverlaps() {
@@ -61,4 +66,46 @@ public class BookingRepositoryTest {
 
         assertFalse(exists, "Não deveria haver conflito em horários encostados");
     }
+
+    @Test
+    @DisplayName("Deve cancelar em um único DELETE apenas as reservas da sala e do período informados")
+    void shouldDeleteOnlyMatchingBookings() {
+        Room room = new Room();
+        room.setName("Sala Andar 3");
+        room.setCapacity(10);
+        roomRepository.save(room);
+
+        Room otherRoom = new Room();
+        otherRoom.setName("Sala Andar 4");
+        otherRoom.setCapacity(10);
+        roomRepository.save(otherRoom);
+
+        User user = new User();
+        user.setName("Ana");
+        user.setEmail("ana.bulk@room.com");
+        user.setPassword("secret");
+        user.setRole("USER");
+        userRepository.save(user);
+
+        LocalDateTime day = LocalDateTime.of(2030, 5, 6, 0, 0);
+        save(room, user, day.withHour(9));
+        save(room, user, day.withHour(14));
+        save(room, user, day.plusDays(1).withHour(9));
+        save(otherRoom, user, day.withHour(9));
+
+        int deleted = bookingRepository.deleteStartingBetween(room.getId(), null, day, day.plusDays(1));
+
+        assertEquals(2, deleted);
+        assertEquals(1, bookingRepository.findSlotsStartingBetween(room.getId(), null, null, null).size());
+        assertEquals(1, bookingRepository.findSlotsStartingBetween(otherRoom.getId(), null, null, null).size());
+    }
+
+    private void save(Room room, User user, LocalDateTime startAt) {
+        Booking booking = new Booking();
+        booking.setRoom(room);
+        booking.setUser(user);
+        booking.setStartAt(startAt);
+        booking.setEndAt(startAt.plusHours(1));
+        bookingRepository.save(booking);
+    }
 }
@@ -0,0 +1,126 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"booking.archive.batch-size=3", "booking.archive.pause-ms=0"})
+@ActiveProfiles("test")
+public class BookingArchiverTest {
+    private static final String COUNT_HISTORY = "SELECT COUNT(*) FROM tb_bookings_history WHERE room_id = :roomId";
+
+    @Autowired
+    private BookingArchiver archiver;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Deve mover em lotes só as reservas encerradas antes do corte")
+    void shouldArchiveOnlyBookingsEndedBeforeCutoff() {
+        Room room = room("Sala Arquivo");
+        User user = user("arquivo@test.com");
+        LocalDateTime cutoff = LocalDateTime.of(2001, 1, 1, 0, 0);
+        List<Long> old = book(room, user, cutoff.minusDays(10), 7);
+        List<Long> recent = book(room, user, cutoff.minusMinutes(15), 1);
+
+        // Seven rows with batches of three: two full batches and a short one.
+        assertEquals(7, archiver.archive(cutoff));
+
+        assertTrue(old.stream().noneMatch(id -> bookingRepository.existsById(id)));
+        assertTrue(bookingRepository.existsById(recent.get(0)));
+        assertEquals(7L, historyCount(room));
+        assertEquals(0, archiver.archive(cutoff));
+
+        // The database is shared with the other Spring tests, which count every booking in it.
+        bookingRepository.deleteAllById(recent);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar cada reserva uma única vez com várias instâncias ao mesmo tempo")
+    void shouldArchiveEachBookingOnceAcrossInstances() {
+        Room room = room("Sala Arquivo Concorrente");
+        User user = user("arquivo-concorrente@test.com");
+        LocalDateTime cutoff = LocalDateTime.of(1990, 1, 1, 0, 0);
+        book(room, user, cutoff.minusDays(60), 40);
+
+        List<CompletableFuture<Integer>> runs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            BookingArchiver instance = new BookingArchiver(jdbcTemplate, transactionManager, eventPublisher,
+                    true, Duration.ofDays(90), 3, 0);
+            runs.add(CompletableFuture.supplyAsync(() -> instance.archive(cutoff)));
+        }
+
+        assertEquals(40, runs.stream().mapToInt(CompletableFuture::join).sum());
+        assertEquals(40L, historyCount(room));
+    }
+
+    private long historyCount(Room room) {
+        return jdbcTemplate.queryForObject(COUNT_HISTORY, Map.of("roomId", room.getId()), Long.class);
+    }
+
+    private List<Long> book(Room room, User user, LocalDateTime firstStart, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Booking booking = new Booking();
+            booking.setRoom(room);
+            booking.setUser(user);
+            booking.setStartAt(firstStart.plusHours(i));
+            booking.setEndAt(firstStart.plusHours(i).plusMinutes(30));
+            ids.add(bookingRepository.save(booking).getId());
+        }
+        return ids;
+    }
+
+    private Room room(String name) {
+        Room room = new Room();
+        room.setName(name);
+        room.setCapacity(10);
+        return roomRepository.save(room);
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setName("Arquivo");
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole("USER");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,134 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingBatchItemResult;
+import com.room.scheduler.dto.BookingBatchItemStatus;
+import com.room.scheduler.dto.BookingBatchMode;
+import com.room.scheduler.dto.BookingBatchRequest;
+import com.room.scheduler.dto.BookingBatchResponse;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookingBatchTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> bookings = new ArrayList<>();
+    private AuthenticatedUser user;
+    private Long roomId;
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        Room room = new Room();
+        room.setName("Sala Lote");
+        room.setCapacity(4);
+        roomId = roomRepository.save(room).getId();
+
+        User owner = new User();
+        owner.setName("Lote");
+        owner.setEmail("lote-" + System.nanoTime() + "@test.com");
+        owner.setPassword("secret");
+        owner.setRole("USER");
+        user = AuthenticatedUser.from(userRepository.save(owner));
+
+        day = LocalDateTime.now().plusDays(50).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    // The database is shared with the other Spring tests, which count every booking in it.
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllById(bookings);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote inteiro quando um item conflita no modo tudo ou nada")
+    void shouldRejectWholeBatchWhenOneItemConflicts() {
+        bookings.add(bookingService.createBooking(request(9, 10), user).id());
+
+        BookingBatchResponse response = bookingService.createBatch(batch(BookingBatchMode.ALL_OR_NOTHING,
+                request(14, 15), request(9, 11)), user);
+
+        assertEquals(0, response.created());
+        assertEquals(1, response.rejected());
+        assertEquals(List.of(BookingBatchItemStatus.SKIPPED, BookingBatchItemStatus.CONFLICT), statuses(response));
+        assertFalse(bookingRepository.existsOverlappingBooking(roomId, day.withHour(14), day.withHour(15)));
+    }
+
+    @Test
+    @DisplayName("Deve recusar itens que conflitam entre si dentro do mesmo lote")
+    void shouldRejectItemsOverlappingEachOther() {
+        BookingBatchResponse response = bookingService.createBatch(batch(BookingBatchMode.ALL_OR_NOTHING,
+                request(9, 11), request(10, 12)), user);
+
+        assertEquals(0, response.created());
+        assertEquals(List.of(BookingBatchItemStatus.SKIPPED, BookingBatchItemStatus.CONFLICT), statuses(response));
+        assertFalse(bookingRepository.existsOverlappingBooking(roomId, day.withHour(9), day.withHour(12)));
+    }
+
+    @Test
+    @DisplayName("Deve gravar os itens livres no modo melhor esforço")
+    void shouldKeepFreeItemsInBestEffortMode() {
+        bookings.add(bookingService.createBooking(request(9, 10), user).id());
+
+        BookingBatchResponse response = bookingService.createBatch(batch(BookingBatchMode.BEST_EFFORT,
+                request(14, 15), request(9, 11)), user);
+        response.results().stream().map(BookingBatchItemResult::bookingId).filter(Objects::nonNull)
+                .forEach(bookings::add);
+
+        assertEquals(1, response.created());
+        assertEquals(List.of(BookingBatchItemStatus.CREATED, BookingBatchItemStatus.CONFLICT), statuses(response));
+        assertEquals(2, bookings.size());
+    }
+
+    private BookingBatchRequest batch(BookingBatchMode mode, BookingRequest... requests) {
+        BookingBatchRequest batch = new BookingBatchRequest();
+        batch.setMode(mode);
+        batch.setBookings(List.of(requests));
+        return batch;
+    }
+
+    private BookingRequest request(int fromHour, int toHour) {
+        BookingRequest request = new BookingRequest();
+        request.setRoomId(roomId);
+        request.setStartAt(day.withHour(fromHour));
+        request.setEndAt(day.withHour(toHour));
+        return request;
+    }
+
+    private List<BookingBatchItemStatus> statuses(BookingBatchResponse response) {
+        return response.results().stream().map(BookingBatchItemResult::status).toList();
+    }
+}
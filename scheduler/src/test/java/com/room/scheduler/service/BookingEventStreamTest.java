@@ -0,0 +1,243 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.controller.BookingController;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.event.RoomsChangedEvent;
+import com.room.scheduler.model.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Drives the stream through the controller so every emitter writes to a real (mock) response.
+public class BookingEventStreamTest {
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+    // Closed, it parks every write to the client the way a reader that stopped reading would.
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private BookingEventStream stream;
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        stream.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve entregar apenas os eventos do filtro e ocultar o dono das reservas de outros usuários")
+    void shouldFilterEventsAndHideOtherOwners() throws Exception {
+        setUp(64);
+        MvcResult result = subscribe(new AuthenticatedUser(1L, "Ana", "ana@test.com", "USER"), "?roomId=10", null);
+
+        stream.onBookingsCreated(new BookingsCreatedEvent(List.of(
+                slot(101L, 10L, 2L), slot(102L, 20L, 1L), slot(103L, 10L, 1L))));
+        stream.onRoomsChanged(new RoomsChangedEvent());
+
+        String content = awaitContent(result, "rooms.changed");
+        assertTrue(content.contains("\"bookingId\":101,\"roomId\":10,\"userId\":null"), content);
+        assertTrue(content.contains("\"bookingId\":103,\"roomId\":10,\"userId\":1"), content);
+        assertFalse(content.contains("\"bookingId\":102"), content);
+    }
+
+    @Test
+    @DisplayName("Deve recusar que um usuário comum acompanhe as reservas de outro")
+    void shouldForbidFollowingAnotherUser() throws Exception {
+        setUp(64);
+        authenticate(new AuthenticatedUser(1L, "Ana", "ana@test.com", "USER"));
+
+        mockMvc.perform(get("/api/bookings/stream").param("userId", "2"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os eventos posteriores ao Last-Event-ID e pedir reset para ids desconhecidos")
+    void shouldReplayAfterLastEventId() throws Exception {
+        setUp(64);
+        AuthenticatedUser admin = new AuthenticatedUser(9L, "Admin", "admin@test.com", "ADMIN");
+        MvcResult live = subscribe(admin, "", null);
+
+        stream.onBookingsCreated(new BookingsCreatedEvent(List.of(
+                slot(201L, 10L, 1L), slot(202L, 10L, 1L), slot(203L, 10L, 1L))));
+        List<Long> ids = eventIds(awaitContent(live, "\"bookingId\":203"));
+        assertEquals(3, ids.size());
+
+        MvcResult resumed = subscribe(admin, "", ids.get(0));
+        String replayed = awaitContent(resumed, "\"bookingId\":203");
+        assertEquals(ids.subList(1, 3), eventIds(replayed));
+        assertFalse(replayed.contains("\"bookingId\":201"), replayed);
+
+        MvcResult unknown = subscribe(admin, "", ids.get(2) + 100);
+        String reset = awaitContent(unknown, "event:reset");
+        assertFalse(reset.contains("booking.created"), reset);
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante lento sem travar quem publica")
+    void shouldEvictSlowConsumerWithoutBlockingPublisher() throws Exception {
+        setUp(2);
+        MvcResult slow = subscribe(new AuthenticatedUser(9L, "Admin", "admin@test.com", "ADMIN"), "", null);
+        assertEquals(1.0, meterRegistry.get("booking.stream.subscribers").gauge().value());
+
+        gate = new CountDownLatch(1);
+        // One event parked in the write, two in the buffer; the rest overflow it.
+        List<BookingSlot> slots = List.of(slot(301L, 10L, 1L), slot(302L, 10L, 1L), slot(303L, 10L, 1L),
+                slot(304L, 10L, 1L), slot(305L, 10L, 1L));
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> stream.onBookingsCreated(new BookingsCreatedEvent(slots)));
+
+        assertEquals(1.0, meterRegistry.get("booking.stream.evicted").counter().count());
+        assertEquals(0.0, meterRegistry.get("booking.stream.subscribers").gauge().value());
+
+        // Completing ends the async request, which fails here if the emitter was left open.
+        gate.countDown();
+        slow.getAsyncResult(5000);
+        assertFalse(slow.getResponse().getContentAsString().contains("\"bookingId\":305"));
+    }
+
+    private void setUp(int bufferSize) {
+        stream = new BookingEventStream(meterRegistry, 16, bufferSize, Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new BookingController(null, null, stream))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .addFilters(new GatedResponseFilter())
+                .build();
+    }
+
+    private MvcResult subscribe(AuthenticatedUser user, String query, Long lastEventId) throws Exception {
+        authenticate(user);
+        var builder = get("/api/bookings/stream" + query);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void authenticate(AuthenticatedUser user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.authorities()));
+    }
+
+    private BookingSlot slot(Long id, Long roomId, Long userId) {
+        return new BookingSlot(id, roomId, userId, start.plusHours(id % 100), start.plusHours(id % 100 + 1));
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        awaitUntil(() -> contentOf(result).contains(expected));
+        return result.getResponse().getContentAsString();
+    }
+
+    private static String contentOf(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Tempo esgotado esperando o stream");
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Long> eventIds(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        return matcher.results().map(match -> Long.parseLong(match.group(1))).toList();
+    }
+
+    private final class GatedResponseFilter extends OncePerRequestFilter {
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain chain) throws ServletException, IOException {
+            chain.doFilter(request, new HttpServletResponseWrapper(response) {
+                @Override
+                public ServletOutputStream getOutputStream() throws IOException {
+                    return new GatedOutputStream(response.getOutputStream());
+                }
+            });
+        }
+    }
+
+    private final class GatedOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        GatedOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            awaitGate();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            awaitGate();
+            delegate.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+
+        private void awaitGate() throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
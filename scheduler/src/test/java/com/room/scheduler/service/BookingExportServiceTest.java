@@ -0,0 +1,95 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingExportFormat;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSource;
+import com.room.scheduler.repository.BookingHistoryRepository;
+import com.room.scheduler.repository.BookingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BookingExportServiceTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 3, 10, 9, 0);
+    private static final String HEADER = "id,room,user,email,start_at,end_at\n";
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingHistoryRepository historyRepository = mock(BookingHistoryRepository.class);
+    private final BookingExportService exportService = new BookingExportService(bookingRepository,
+            historyRepository, JsonMapper.builder().build(), mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("Deve escapar vírgulas, aspas e quebras de linha no CSV")
+    void shouldQuoteCsvFields() {
+        when(bookingRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                new BookingResponse(1L, "Sala, 1", "Ana \"Nina\"", "ana@test.com", START, START.plusHours(1)),
+                new BookingResponse(2L, "Sala\n2", "Bruno\r", "bruno@test.com", START, START.plusHours(2))));
+
+        RecordingStream out = new RecordingStream();
+        exportService.export(BookingExportFormat.CSV, BookingSource.LIVE, null, null, out);
+
+        assertEquals(HEADER
+                + "1,\"Sala, 1\",\"Ana \"\"Nina\"\"\",ana@test.com,2030-03-10T09:00,2030-03-10T10:00\n"
+                + "2,\"Sala\n2\",\"Bruno\r\",bruno@test.com,2030-03-10T09:00,2030-03-10T11:00\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o cabeçalho e a primeira linha antes de ler o restante e fechar o cursor")
+    void shouldFlushEarlyAndCloseCursor() {
+        RecordingStream out = new RecordingStream();
+        List<Integer> flushedBeforeRow = new ArrayList<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(historyRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                        new BookingResponse(1L, "Sala", "Ana", "ana@test.com", START, START.plusHours(1)),
+                        new BookingResponse(2L, "Sala", "Bruno", "bruno@test.com", START, START.plusHours(1)))
+                .peek(row -> flushedBeforeRow.add(out.flushed))
+                .onClose(() -> closed.set(true)));
+
+        exportService.export(BookingExportFormat.CSV, BookingSource.HISTORY, null, null, out);
+
+        int firstLine = HEADER.length() + "1,Sala,Ana,ana@test.com,2030-03-10T09:00,2030-03-10T10:00\n".length();
+        assertEquals(List.of(HEADER.length(), firstLine), flushedBeforeRow);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha no NDJSON")
+    void shouldWriteOneJsonObjectPerLine() {
+        when(bookingRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                new BookingResponse(1L, "Sala", "Ana", "ana@test.com", START, START.plusHours(1)),
+                new BookingResponse(2L, "Sala", "Bruno", "bruno@test.com", START, START.plusHours(1))));
+
+        RecordingStream out = new RecordingStream();
+        exportService.export(BookingExportFormat.NDJSON, BookingSource.LIVE, null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,") && lines[0].endsWith("}"));
+        assertTrue(lines[1].startsWith("{\"id\":2,") && lines[1].endsWith("}"));
+    }
+
+    // Remembers how many bytes had been flushed, which is what the client has actually received.
+    private static final class RecordingStream extends ByteArrayOutputStream {
+        private int flushed;
+
+        @Override
+        public void flush() {
+            flushed = size();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingHoldResponse;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "booking.holds.ttl=2s")
+@ActiveProfiles("test")
+public class BookingHoldConfirmationTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> bookings = new ArrayList<>();
+    private AuthenticatedUser user;
+    private BookingRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Room room = new Room();
+        room.setName("Sala Pré-reserva");
+        room.setCapacity(4);
+        room = roomRepository.save(room);
+
+        User owner = new User();
+        owner.setName("Pré-reserva");
+        owner.setEmail("pre-reserva-" + System.nanoTime() + "@test.com");
+        owner.setPassword("secret");
+        owner.setRole("USER");
+        user = AuthenticatedUser.from(userRepository.save(owner));
+
+        LocalDateTime startAt = LocalDateTime.now().plusDays(45).truncatedTo(ChronoUnit.DAYS).plusHours(9);
+        request = new BookingRequest();
+        request.setRoomId(room.getId());
+        request.setStartAt(startAt);
+        request.setEndAt(startAt.plusHours(1));
+    }
+
+    // The database is shared with the other Spring tests, which count every booking in it.
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllById(bookings);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar a pré-reserva uma única vez")
+    void shouldConfirmHoldOnce() {
+        BookingHoldResponse hold = bookingService.createHold(request, user);
+
+        BookingResponse booking = bookingService.confirmHold(hold.id(), user);
+        bookings.add(booking.id());
+
+        assertEquals(request.getStartAt(), booking.startAt());
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookingService.confirmHold(hold.id(), user));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve responder 410 ao confirmar uma pré-reserva expirada e liberar o horário")
+    void shouldRejectExpiredHoldWithGone() throws InterruptedException {
+        BookingHoldResponse hold = bookingService.createHold(request, user);
+        Thread.sleep(4000);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookingService.confirmHold(hold.id(), user));
+        assertEquals(HttpStatus.GONE, e.getStatusCode());
+
+        // What the form falls back to once the confirmation is refused.
+        bookings.add(bookingService.createBooking(request, user).id());
+    }
+}
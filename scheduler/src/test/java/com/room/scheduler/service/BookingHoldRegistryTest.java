@@ -0,0 +1,76 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.model.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BookingHoldRegistryTest {
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, "Ana", "ana@room.com", "USER");
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 3, 4, 9, 0);
+
+    private final BookingHoldRegistry registry = new BookingHoldRegistry(new SimpleMeterRegistry(),
+            event -> { }, Duration.ofSeconds(1), 2);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o horário segurado para os outros, mas não para a própria pré-reserva")
+    void shouldBlockHeldIntervalExceptForItsOwnHold() {
+        BookingHoldRegistry.Hold hold = registry.place(10L, USER, NINE, NINE.plusHours(1));
+
+        assertTrue(registry.overlaps(10L, NINE.plusMinutes(30), NINE.plusHours(2), null));
+        assertFalse(registry.overlaps(10L, NINE.plusMinutes(30), NINE.plusHours(2), hold.id()));
+        assertFalse(registry.overlaps(10L, NINE.plusHours(1), NINE.plusHours(2), null));
+        assertFalse(registry.overlaps(11L, NINE, NINE.plusHours(1), null));
+
+        registry.release(hold.id());
+
+        assertTrue(registry.find(hold.id()).isEmpty());
+        assertFalse(registry.hasExpired(hold.id()));
+        assertFalse(registry.overlaps(10L, NINE, NINE.plusHours(1), null));
+    }
+
+    @Test
+    @DisplayName("Deve limitar as pré-reservas simultâneas por usuário")
+    void shouldLimitHoldsPerUser() {
+        BookingHoldRegistry.Hold first = registry.place(10L, USER, NINE, NINE.plusHours(1));
+        registry.place(10L, USER, NINE.plusHours(1), NINE.plusHours(2));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> registry.place(10L, USER, NINE.plusHours(2), NINE.plusHours(3)));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatusCode());
+
+        registry.release(first.id());
+        registry.place(10L, USER, NINE.plusHours(2), NINE.plusHours(3));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o horário e lembrar a pré-reserva como expirada ao fim do prazo")
+    void shouldExpireHoldAfterTtl() throws InterruptedException {
+        BookingHoldRegistry.Hold hold = registry.place(10L, USER, NINE, NINE.plusHours(1));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.find(hold.id()).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(registry.find(hold.id()).isEmpty());
+        assertTrue(registry.hasExpired(hold.id()));
+        assertFalse(registry.overlaps(10L, NINE, NINE.plusHours(1), null));
+    }
+}
@@ -0,0 +1,129 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingFilter;
+import com.room.scheduler.dto.BookingOrder;
+import com.room.scheduler.dto.BookingPage;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.dto.BookingResponse;
+import com.room.scheduler.dto.BookingSource;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookingPagingTest {
+    private static final Comparator<BookingResponse> KEYSET = Comparator.comparing(BookingResponse::startAt)
+            .thenComparing(BookingResponse::id);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> bookings = new ArrayList<>();
+    private Long firstRoomId;
+
+    // Two bookings share a start time, so the id has to break the tie across page boundaries.
+    @BeforeEach
+    void setUp() {
+        firstRoomId = room("Sala Paginação A");
+        Long secondRoomId = room("Sala Paginação B");
+
+        User owner = new User();
+        owner.setName("Paginação");
+        owner.setEmail("paginacao-" + System.nanoTime() + "@test.com");
+        owner.setPassword("secret");
+        owner.setRole("USER");
+        AuthenticatedUser user = AuthenticatedUser.from(userRepository.save(owner));
+
+        LocalDateTime day = LocalDateTime.now().plusDays(70).truncatedTo(ChronoUnit.DAYS);
+        for (int[] booking : new int[][] { { 0, 9 }, { 1, 9 }, { 0, 11 }, { 1, 13 }, { 0, 15 } }) {
+            BookingRequest request = new BookingRequest();
+            request.setRoomId(booking[0] == 0 ? firstRoomId : secondRoomId);
+            request.setStartAt(day.withHour(booking[1]));
+            request.setEndAt(day.withHour(booking[1] + 1));
+            bookings.add(bookingService.createBooking(request, user).id());
+        }
+    }
+
+    // The database is shared with the other Spring tests, which count every booking in it.
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllById(bookings);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as reservas sem repetir nem pular nas duas ordens")
+    void shouldWalkEveryBookingOnceInBothOrders() {
+        List<BookingResponse> ascending = walk(new BookingFilter(null, null, null, null), BookingOrder.ASC);
+        List<BookingResponse> descending = walk(new BookingFilter(null, null, null, null), BookingOrder.DESC);
+
+        assertEquals(ascending.stream().sorted(KEYSET).toList(), ascending);
+        assertEquals(ascending.reversed(), descending);
+        assertEquals(bookings, ascending.stream().map(BookingResponse::id).filter(bookings::contains).toList());
+    }
+
+    @Test
+    @DisplayName("Deve paginar apenas as reservas da sala filtrada")
+    void shouldPageFilteredRoom() {
+        List<BookingResponse> items = walk(new BookingFilter(firstRoomId, null, null, null), BookingOrder.DESC);
+
+        assertEquals(List.of(bookings.get(4), bookings.get(2), bookings.get(0)),
+                items.stream().map(BookingResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("Não deve devolver cursor na última página")
+    void shouldOmitCursorOnLastPage() {
+        BookingPage page = bookingService.listAll(new BookingFilter(firstRoomId, null, null, null),
+                BookingSource.LIVE, BookingOrder.ASC, null, 3);
+
+        assertEquals(3, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    private List<BookingResponse> walk(BookingFilter filter, BookingOrder order) {
+        List<BookingResponse> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            BookingPage page = bookingService.listAll(filter, BookingSource.LIVE, order, cursor, 2);
+            items.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+
+    private Long room(String name) {
+        Room room = new Room();
+        room.setName(name);
+        room.setCapacity(4);
+        return roomRepository.save(room).getId();
+    }
+}
@@ -0,0 +1,171 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingBatchItemResult;
+import com.room.scheduler.dto.BookingBatchItemStatus;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.dto.BookingSeriesRequest;
+import com.room.scheduler.dto.BookingSeriesResponse;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.RecurrenceFrequency;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.BookingSeriesRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookingSeriesTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingSeriesRepository seriesRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> bookings = new ArrayList<>();
+    private final List<Long> series = new ArrayList<>();
+    private AuthenticatedUser user;
+    private Long roomId;
+    private LocalDateTime startAt;
+
+    @BeforeEach
+    void setUp() {
+        Room room = new Room();
+        room.setName("Sala Série");
+        room.setCapacity(4);
+        roomId = roomRepository.save(room).getId();
+
+        User owner = new User();
+        owner.setName("Série");
+        owner.setEmail("serie-" + System.nanoTime() + "@test.com");
+        owner.setPassword("secret");
+        owner.setRole("USER");
+        user = AuthenticatedUser.from(userRepository.save(owner));
+
+        startAt = LocalDateTime.now().plusDays(60).truncatedTo(ChronoUnit.DAYS).plusHours(9);
+    }
+
+    // The database is shared with the other Spring tests, which count every booking in it.
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllById(bookings);
+        seriesRepository.deleteAllById(series);
+    }
+
+    @Test
+    @DisplayName("Deve expandir a série semanal pela quantidade de ocorrências")
+    void shouldExpandWeeklySeriesByCount() {
+        BookingSeriesRequest request = series(RecurrenceFrequency.WEEKLY, 1);
+        request.setCount(3);
+
+        BookingSeriesResponse response = create(request);
+
+        assertEquals(3, response.created());
+        assertEquals(List.of(startAt, startAt.plusWeeks(1), startAt.plusWeeks(2)), createdStarts());
+    }
+
+    @Test
+    @DisplayName("Deve expandir a série diária com intervalo até a data final inclusive")
+    void shouldExpandDailySeriesUntilDate() {
+        BookingSeriesRequest request = series(RecurrenceFrequency.DAILY, 2);
+        request.setUntil(startAt.toLocalDate().plusDays(4));
+
+        BookingSeriesResponse response = create(request);
+
+        assertEquals(3, response.created());
+        assertEquals(List.of(startAt, startAt.plusDays(2), startAt.plusDays(4)), createdStarts());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a série inteira quando uma ocorrência conflita")
+    void shouldRejectWholeSeriesWhenOneOccurrenceConflicts() {
+        BookingRequest taken = new BookingRequest();
+        taken.setRoomId(roomId);
+        taken.setStartAt(startAt.plusWeeks(1).plusMinutes(30));
+        taken.setEndAt(startAt.plusWeeks(1).plusHours(2));
+        bookings.add(bookingService.createBooking(taken, user).id());
+
+        BookingSeriesRequest request = series(RecurrenceFrequency.WEEKLY, 1);
+        request.setCount(3);
+        BookingSeriesResponse response = create(request);
+
+        assertNull(response.seriesId());
+        assertEquals(0, response.created());
+        assertEquals(List.of(BookingBatchItemStatus.SKIPPED, BookingBatchItemStatus.CONFLICT,
+                BookingBatchItemStatus.SKIPPED),
+                response.occurrences().stream().map(BookingBatchItemResult::status).toList());
+        assertFalse(bookingRepository.existsOverlappingBooking(roomId, startAt, startAt.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("Deve exigir a data final ou a quantidade de ocorrências, e não as duas")
+    void shouldRequireEitherUntilOrCount() {
+        BookingSeriesRequest request = series(RecurrenceFrequency.DAILY, 1);
+        request.setCount(2);
+        request.setUntil(startAt.toLocalDate().plusDays(3));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookingService.createSeries(request, user));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private BookingSeriesRequest series(RecurrenceFrequency frequency, int interval) {
+        BookingSeriesRequest request = new BookingSeriesRequest();
+        request.setRoomId(roomId);
+        request.setStartAt(startAt);
+        request.setEndAt(startAt.plusHours(1));
+        request.setFrequency(frequency);
+        request.setInterval(interval);
+        return request;
+    }
+
+    private BookingSeriesResponse create(BookingSeriesRequest request) {
+        BookingSeriesResponse response = bookingService.createSeries(request, user);
+        if (response.seriesId() != null) {
+            series.add(response.seriesId());
+        }
+        response.occurrences().stream().map(BookingBatchItemResult::bookingId).filter(Objects::nonNull)
+                .forEach(bookings::add);
+        return response;
+    }
+
+    private List<LocalDateTime> createdStarts() {
+        return bookingRepository.findAllById(bookings).stream()
+                .map(Booking::getStartAt)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+}
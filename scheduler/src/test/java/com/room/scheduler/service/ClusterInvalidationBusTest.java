@@ -0,0 +1,124 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.SchedulerApplication;
+import com.room.scheduler.dto.BookingRequest;
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.dto.RoomRequest;
+import com.room.scheduler.event.ClusterEvent;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Two application contexts on the same H2 database stand in for two instances behind the load balancer.
+public class ClusterInvalidationBusTest {
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS);
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = boot();
+        second = boot();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        second.close();
+        first.close();
+    }
+
+    @Test
+    @DisplayName("Deve refletir na outra instância salas e reservas criadas em uma delas")
+    void shouldPropagateWritesToTheOtherInstance() {
+        RoomRequest roomRequest = new RoomRequest();
+        roomRequest.setName("Sala Cluster");
+        roomRequest.setCapacity(8);
+        Room room = first.getBean(RoomService.class).createRoom(roomRequest);
+
+        assertTrue(second.getBean(RoomCatalog.class).rooms().stream()
+                .anyMatch(cached -> cached.getId().equals(room.getId())));
+
+        User user = new User();
+        user.setName("Cluster");
+        user.setEmail("cluster@test.com");
+        user.setPassword("x");
+        user.setRole("USER");
+        user = first.getBean(UserRepository.class).save(user);
+
+        BookingRequest booking = new BookingRequest();
+        booking.setRoomId(room.getId());
+        booking.setStartAt(START);
+        booking.setEndAt(START.plusHours(1));
+        Long bookingId = first.getBean(BookingService.class).createBooking(booking,
+                new AuthenticatedUser(user.getId(), user.getName(), user.getEmail(), user.getRole())).id();
+
+        assertTrue(second.getBean(RoomIntervalIndex.class).overlaps(room.getId(), START, START.plusMinutes(30)));
+
+        // The database is shared with the other Spring tests, which count every booking in it.
+        first.getBean(BookingRepository.class).deleteById(bookingId);
+    }
+
+    @Test
+    @DisplayName("Deve replicar a pré-reserva na outra instância e liberá-la lá também")
+    void shouldReplicateHoldsToTheOtherInstance() {
+        BookingHoldRegistry origin = first.getBean(BookingHoldRegistry.class);
+        BookingHoldRegistry replica = second.getBean(BookingHoldRegistry.class);
+        AuthenticatedUser user = new AuthenticatedUser(-2L, "Cluster", "hold-cluster@test.com", "USER");
+
+        BookingHoldRegistry.Hold hold = origin.place(999_998L, user, START, START.plusHours(1));
+
+        assertTrue(replica.find(hold.id()).isPresent());
+        assertTrue(replica.overlaps(999_998L, START, START.plusMinutes(30), null));
+        assertFalse(replica.overlaps(999_998L, START, START.plusMinutes(30), hold.id()));
+
+        // Confirming on the other instance releases it there; the origin must forget it too.
+        replica.release(hold.id());
+
+        assertTrue(origin.find(hold.id()).isEmpty());
+        assertFalse(origin.overlaps(999_998L, START, START.plusMinutes(30), null));
+        assertFalse(origin.hasExpired(hold.id()));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o estado local ao detectar uma lacuna na sequência")
+    void shouldResyncOnSequenceGap() {
+        LocalClusterTransport transport = first.getBean(LocalClusterTransport.class);
+        ObjectMapper objectMapper = first.getBean(ObjectMapper.class);
+        RoomIntervalIndex index = second.getBean(RoomIntervalIndex.class);
+
+        // A slot that never reached the database only survives until the next reload.
+        BookingSlot phantom = new BookingSlot(-1L, 999_999L, -1L, START, START.plusHours(1));
+        transport.send(objectMapper.writeValueAsString(new ClusterEvent("peer", 1,
+                ClusterEvent.Type.BOOKINGS_CREATED, List.of(phantom), null, null, null)));
+        assertTrue(index.overlaps(999_999L, START, START.plusMinutes(30)));
+
+        transport.send(objectMapper.writeValueAsString(new ClusterEvent("peer", 3,
+                ClusterEvent.Type.ROOMS_CHANGED, List.of(), null, null, null)));
+        assertFalse(index.overlaps(999_999L, START, START.plusMinutes(30)));
+    }
+
+    // Command-line arguments, not builder properties: those are mere defaults and
+    // application.properties would override them.
+    private static ConfigurableApplicationContext boot() {
+        return new SpringApplicationBuilder(SchedulerApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--cluster.bus.transport=local");
+    }
+}
@@ -0,0 +1,54 @@
+package com.room.scheduler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("Deve responder 503 quando a fila de hashing estiver cheia e voltar a aceitar depois")
+    void shouldRejectWithServiceUnavailableWhenSaturated() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // One task holds the only thread and a second one takes the only queue slot.
+        CompletableFuture<String> running = executor.submit(() -> {
+            started.countDown();
+            await(release);
+            return "primeiro";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.submit(() -> "segundo");
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> executor.submit(() -> "terceiro"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        assertEquals(1, meterRegistry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("primeiro", running.get(5, TimeUnit.SECONDS));
+        assertEquals("segundo", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("quarto", executor.submit(() -> "quarto").get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.model.AuthenticatedUser;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReadYourWritesTrackerTest {
+    private static final AuthenticatedUser USER = new AuthenticatedUser(7L, "Ana", "ana@room.com", "USER");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve manter no primário a leitura servida por outra instância logo após a escrita")
+    void shouldCarryRecentWriteToAnotherInstance() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        bind(new MockHttpServletRequest(), writeResponse);
+        tracker().markWrite(USER);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesTracker.COOKIE);
+        assertNotNull(cookie, writeResponse.getHeader(HttpHeaders.SET_COOKIE));
+
+        // A fresh tracker knows nothing locally, as on the instance that serves the next read.
+        ReadYourWritesTracker other = tracker();
+        authenticate(USER);
+        MockHttpServletRequest read = new MockHttpServletRequest();
+        read.setCookies(cookie);
+        bind(read, new MockHttpServletResponse());
+        assertTrue(other.currentUserWroteRecently());
+
+        bind(new MockHttpServletRequest(), new MockHttpServletResponse());
+        assertFalse(other.currentUserWroteRecently());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o cookie de outro usuário ou de uma escrita antiga")
+    void shouldIgnoreForeignOrStaleCookies() {
+        ReadYourWritesTracker tracker = tracker();
+        authenticate(USER);
+
+        MockHttpServletRequest foreign = new MockHttpServletRequest();
+        foreign.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, "8-" + System.currentTimeMillis()));
+        bind(foreign, new MockHttpServletResponse());
+        assertFalse(tracker.currentUserWroteRecently());
+
+        MockHttpServletRequest stale = new MockHttpServletRequest();
+        stale.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, "7-" + (System.currentTimeMillis() - 60_000)));
+        bind(stale, new MockHttpServletResponse());
+        assertFalse(tracker.currentUserWroteRecently());
+    }
+
+    private ReadYourWritesTracker tracker() {
+        return new ReadYourWritesTracker("jdbc:h2:mem:replica", Duration.ofSeconds(5));
+    }
+
+    private void bind(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private void authenticate(AuthenticatedUser user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
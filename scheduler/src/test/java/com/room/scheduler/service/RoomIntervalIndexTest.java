@@ -0,0 +1,84 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.repository.BookingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RoomIntervalIndexTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 0, 0);
+
+    @Test
+    @DisplayName("Deve detectar conflitos carregados do banco e ignorar horários encostados")
+    void shouldDetectOverlapsLoadedAtStartup() {
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findAllSlots()).thenReturn(List.of(
+                new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10)),
+                new BookingSlot(2L, 10L, 100L, DAY.withHour(14), DAY.withHour(15))));
+
+        RoomIntervalIndex index = new RoomIntervalIndex(repository, true);
+        index.afterSingletonsInstantiated();
+
+        assertTrue(index.isReady());
+        assertTrue(index.overlaps(10L, DAY.withHour(9).withMinute(30), DAY.withHour(11)));
+        assertTrue(index.overlaps(10L, DAY.withHour(13), DAY.withHour(16)));
+        assertFalse(index.overlaps(10L, DAY.withHour(10), DAY.withHour(14)));
+        assertFalse(index.overlaps(20L, DAY.withHour(9), DAY.withHour(10)));
+    }
+
+    @Test
+    @DisplayName("Deve refletir reservas criadas e canceladas")
+    void shouldFollowCreatedAndCancelledBookings() {
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findAllSlots()).thenReturn(List.of());
+
+        RoomIntervalIndex index = new RoomIntervalIndex(repository, true);
+        index.afterSingletonsInstantiated();
+
+        BookingSlot slot = new BookingSlot(5L, 10L, 100L, DAY.withHour(8), DAY.withHour(9));
+        index.onBookingsCreated(new BookingsCreatedEvent(List.of(slot)));
+        assertTrue(index.overlaps(10L, DAY.withHour(8).withMinute(45), DAY.withHour(9).withMinute(30)));
+
+        index.onBookingsCancelled(new BookingsCancelledEvent(List.of(slot)));
+        assertFalse(index.overlaps(10L, DAY.withHour(8).withMinute(45), DAY.withHour(9).withMinute(30)));
+    }
+
+    @Test
+    @DisplayName("Não deve ficar pronto quando o índice estiver desligado")
+    void shouldStayInactiveWhenDisabled() {
+        BookingRepository repository = mock(BookingRepository.class);
+
+        RoomIntervalIndex index = new RoomIntervalIndex(repository, false);
+        index.afterSingletonsInstantiated();
+
+        assertFalse(index.isReady());
+    }
+
+    @Test
+    @DisplayName("Não deve ressuscitar uma reserva cancelada enquanto o índice é recarregado")
+    void shouldKeepCancellationThatArrivesDuringReload() {
+        BookingRepository repository = mock(BookingRepository.class);
+        RoomIntervalIndex index = new RoomIntervalIndex(repository, true);
+        BookingSlot slot = new BookingSlot(5L, 10L, 100L, DAY.withHour(8), DAY.withHour(9));
+        when(repository.findAllSlots()).thenReturn(List.of(slot)).thenAnswer(invocation -> {
+            // The read saw the booking, but its cancellation commits before the new map is swapped in.
+            index.onBookingsCancelled(new BookingsCancelledEvent(List.of(slot)));
+            return List.of(slot);
+        });
+        index.afterSingletonsInstantiated();
+
+        index.reload();
+
+        assertFalse(index.overlaps(10L, DAY.withHour(8), DAY.withHour(9)));
+    }
+}
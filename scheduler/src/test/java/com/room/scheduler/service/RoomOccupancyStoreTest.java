@@ -0,0 +1,100 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.repository.BookingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RoomOccupancyStoreTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 0, 0);
+
+    @Test
+    @DisplayName("Deve marcar os slots de 15 minutos ocupados, inclusive entre dias")
+    void shouldMarkBusySlotsAcrossDays() {
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findAllSlots()).thenReturn(List.of(
+                new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10)),
+                new BookingSlot(2L, 10L, 100L, DAY.withHour(23), DAY.plusDays(1).withHour(1))));
+
+        RoomOccupancyStore store = new RoomOccupancyStore(repository);
+        store.afterSingletonsInstantiated();
+
+        assertTrue(store.mayBeBusy(10L, DAY.withHour(9).withMinute(45), DAY.withHour(11)));
+        assertFalse(store.mayBeBusy(10L, DAY.withHour(10), DAY.withHour(23)));
+        assertTrue(store.mayBeBusy(10L, DAY.plusDays(1).withMinute(30), DAY.plusDays(1).withHour(2)));
+        assertFalse(store.mayBeBusy(10L, DAY.plusDays(1).withHour(1), DAY.plusDays(1).withHour(8)));
+        assertFalse(store.mayBeBusy(20L, DAY, DAY.plusDays(7)));
+    }
+
+    @Test
+    @DisplayName("Deve liberar apenas os slots da reserva cancelada")
+    void shouldKeepSharedSlotWhenOneBookingIsCancelled() {
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findAllSlots()).thenReturn(List.of());
+
+        RoomOccupancyStore store = new RoomOccupancyStore(repository);
+        store.afterSingletonsInstantiated();
+
+        BookingSlot first = new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10).withMinute(5));
+        BookingSlot second = new BookingSlot(2L, 10L, 100L, DAY.withHour(10).withMinute(5), DAY.withHour(11));
+        store.onBookingsCreated(new BookingsCreatedEvent(List.of(first, second)));
+
+        store.onBookingsCancelled(new BookingsCancelledEvent(List.of(first)));
+
+        assertFalse(store.mayBeBusy(10L, DAY.withHour(9), DAY.withHour(10)));
+        assertTrue(store.mayBeBusy(10L, DAY.withHour(10), DAY.withHour(10).withMinute(15)));
+    }
+
+    @Test
+    @DisplayName("Deve somar os minutos ocupados por dia e descontar cancelamentos")
+    void shouldTrackBusyMinutesPerDay() {
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findAllSlots()).thenReturn(List.of(
+                new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10).withMinute(30)),
+                new BookingSlot(2L, 10L, 100L, DAY.withHour(23), DAY.plusDays(1).withHour(1))));
+
+        RoomOccupancyStore store = new RoomOccupancyStore(repository);
+        store.afterSingletonsInstantiated();
+
+        assertArrayEquals(new int[] { 150, 60, 0 },
+                store.busyMinutes(10L, DAY.toLocalDate(), DAY.toLocalDate().plusDays(2)));
+
+        store.onBookingsCancelled(new BookingsCancelledEvent(List.of(
+                new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10).withMinute(30)))));
+
+        assertArrayEquals(new int[] { 60, 60 },
+                store.busyMinutes(10L, DAY.toLocalDate(), DAY.toLocalDate().plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Não deve ressuscitar uma reserva cancelada enquanto a ocupação é recarregada")
+    void shouldKeepCancellationThatArrivesDuringReload() {
+        BookingRepository repository = mock(BookingRepository.class);
+        RoomOccupancyStore store = new RoomOccupancyStore(repository);
+        BookingSlot cancelled = new BookingSlot(1L, 10L, 100L, DAY.withHour(9), DAY.withHour(10));
+        BookingSlot created = new BookingSlot(2L, 10L, 100L, DAY.withHour(14), DAY.withHour(15));
+        when(repository.findAllSlots()).thenReturn(List.of(cancelled)).thenAnswer(invocation -> {
+            store.onBookingsCancelled(new BookingsCancelledEvent(List.of(cancelled)));
+            store.onBookingsCreated(new BookingsCreatedEvent(List.of(created)));
+            // The read started before the cancellation and already sees the new booking.
+            return List.of(cancelled, created);
+        });
+        store.afterSingletonsInstantiated();
+
+        store.reload();
+
+        assertFalse(store.mayBeBusy(10L, DAY.withHour(9), DAY.withHour(10)));
+        assertArrayEquals(new int[] { 60 }, store.busyMinutes(10L, DAY.toLocalDate(), DAY.toLocalDate()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.RoomDeletionCascade;
+import com.room.scheduler.dto.RoomDeletionResponse;
+import com.room.scheduler.model.AuthenticatedUser;
+import com.room.scheduler.model.Booking;
+import com.room.scheduler.model.Room;
+import com.room.scheduler.model.User;
+import com.room.scheduler.repository.BookingRepository;
+import com.room.scheduler.repository.RoomRepository;
+import com.room.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RoomServiceTest {
+    private static final String COUNT_HISTORY = "SELECT COUNT(*) FROM tb_bookings_history WHERE room_id = :roomId";
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingHoldRegistry holdRegistry;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    private final List<Long> bookings = new ArrayList<>();
+    private Room room;
+    private User user;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room();
+        room.setName("Sala Desativada");
+        room.setCapacity(6);
+        room = roomRepository.save(room);
+
+        user = new User();
+        user.setName("Desativação");
+        user.setEmail("desativacao-" + System.nanoTime() + "@test.com");
+        user.setPassword("secret");
+        user.setRole("USER");
+        user = userRepository.save(user);
+        principal = AuthenticatedUser.from(user);
+    }
+
+    // The database is shared with the other Spring tests, which count every booking in it.
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllById(bookings);
+        if (roomRepository.existsById(room.getId())) {
+            roomRepository.deleteById(room.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve excluir com cascade=all todas as reservas da sala e liberar suas pré-reservas")
+    void shouldDeleteEveryBookingAndReleaseHoldsWithCascadeAll() {
+        book(now.minusDays(2), now.minusDays(2).plusHours(1));
+        book(now.plusDays(1), now.plusDays(1).plusHours(1));
+        book(now.plusDays(2), now.plusDays(2).plusHours(1));
+        BookingHoldRegistry.Hold hold = holdRegistry.place(room.getId(), principal, now.plusDays(3),
+                now.plusDays(3).plusHours(1));
+
+        RoomDeletionResponse response = roomService.delete(room.getId(), RoomDeletionCascade.ALL);
+
+        assertEquals(new RoomDeletionResponse(3, 0), response);
+        assertFalse(roomRepository.existsById(room.getId()));
+        assertTrue(bookings.stream().noneMatch(bookingRepository::existsById));
+        assertEquals(0L, historyCount());
+        assertConfirmationRefused(hold);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar com cascade=future as reservas já iniciadas e cancelar as futuras")
+    void shouldArchiveStartedBookingsAndCancelFutureOnesWithCascadeFuture() {
+        Long past = book(now.minusDays(1), now.minusDays(1).plusHours(1));
+        Long ongoing = book(now.minusMinutes(30), now.plusMinutes(30));
+        Long future = book(now.plusDays(1), now.plusDays(1).plusHours(1));
+        BookingHoldRegistry.Hold hold = holdRegistry.place(room.getId(), principal, now.plusDays(3),
+                now.plusDays(3).plusHours(1));
+
+        RoomDeletionResponse response = roomService.delete(room.getId(), RoomDeletionCascade.FUTURE);
+
+        assertEquals(new RoomDeletionResponse(1, 2), response);
+        assertFalse(roomRepository.existsById(room.getId()));
+        assertFalse(bookingRepository.existsById(past));
+        assertFalse(bookingRepository.existsById(ongoing));
+        assertFalse(bookingRepository.existsById(future));
+        assertEquals(2L, historyCount());
+        assertConfirmationRefused(hold);
+    }
+
+    private void assertConfirmationRefused(BookingHoldRegistry.Hold hold) {
+        assertTrue(holdRegistry.find(hold.id()).isEmpty());
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookingService.confirmHold(hold.id(), principal));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+    }
+
+    private long historyCount() {
+        return jdbcTemplate.queryForObject(COUNT_HISTORY, Map.of("roomId", room.getId()), Long.class);
+    }
+
+    private Long book(LocalDateTime startAt, LocalDateTime endAt) {
+        Booking booking = new Booking();
+        booking.setRoom(room);
+        booking.setUser(user);
+        booking.setStartAt(startAt);
+        booking.setEndAt(endAt);
+        Long id = bookingRepository.save(booking).getId();
+        bookings.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.room.scheduler.service;
+
+import com.room.scheduler.dto.BookingSlot;
+import com.room.scheduler.event.BookingsCancelledEvent;
+import com.room.scheduler.event.BookingsCreatedEvent;
+import com.room.scheduler.repository.BookingHistoryRepository;
+import com.room.scheduler.repository.BookingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RoomUtilizationStoreTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 10, 0, 0);
+
+    @Test
+    @DisplayName("Deve somar reservas ativas e arquivadas por hora e por dia")
+    void shouldAggregateLiveAndArchivedBookings() {
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        BookingHistoryRepository historyRepository = mock(BookingHistoryRepository.class);
+        when(historyRepository.findAllSlots()).thenReturn(List.of(
+                new BookingSlot(1L, 10L, 100L, DAY.withHour(9).withMinute(30), DAY.withHour(11))));
+        when(bookingRepository.findAllSlots()).thenReturn(List.of(
+                new BookingSlot(2L, 10L, 100L, DAY.withHour(23), DAY.plusDays(1).withHour(0).withMinute(45))));
+
+        RoomUtilizationStore store = new RoomUtilizationStore(bookingRepository, historyRepository);
+        store.afterSingletonsInstantiated();
+
+        assertArrayEquals(new int[] { 30, 60, 0 }, store.hourlyMinutes(10L, DAY.withHour(9), DAY.withHour(12)));
+        assertArrayEquals(new int[] { 150, 45 },
+                store.dailyMinutes(10L, DAY.toLocalDate(), DAY.toLocalDate().plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar os totais ao criar e cancelar reservas")
+    void shouldFollowCreatedAndCancelledBookings() {
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        BookingHistoryRepository historyRepository = mock(BookingHistoryRepository.class);
+        when(bookingRepository.findAllSlots()).thenReturn(List.of());
+        when(historyRepository.findAllSlots()).thenReturn(List.of());
+
+        RoomUtilizationStore store = new RoomUtilizationStore(bookingRepository, historyRepository);
+        store.afterSingletonsInstantiated();
+
+        BookingSlot first = new BookingSlot(1L, 10L, 100L, DAY.withHour(8), DAY.withHour(9));
+        BookingSlot second = new BookingSlot(2L, 10L, 100L, DAY.withHour(14), DAY.withHour(14).withMinute(20));
+        store.onBookingsCreated(new BookingsCreatedEvent(List.of(first, second)));
+        store.onBookingsCancelled(new BookingsCancelledEvent(List.of(first)));
+
+        assertArrayEquals(new int[] { 20 }, store.dailyMinutes(10L, DAY.toLocalDate(), DAY.toLocalDate()));
+        assertArrayEquals(new int[] { 0 }, store.hourlyMinutes(10L, DAY.withHour(8), DAY.withHour(9)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.room.scheduler.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+
+    @Test
+    @DisplayName("Deve expirar cada entrada no seu tick, inclusive as que descem de níveis superiores")
+    void shouldExpireEntriesOnTheirDeadlineAcrossLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(3, 0);
+        wheel.schedule("curto", 5);
+        wheel.schedule("medio", 100);
+        wheel.schedule("longo", 5_000);
+
+        assertEquals(List.of(), wheel.advanceTo(4));
+        assertEquals(List.of("curto"), wheel.advanceTo(5));
+        assertEquals(List.of(), wheel.advanceTo(99));
+        assertEquals(List.of("medio"), wheel.advanceTo(100));
+        assertEquals(List.of(), wheel.advanceTo(4_999));
+        assertEquals(List.of("longo"), wheel.advanceTo(5_000));
+    }
+
+    @Test
+    @DisplayName("Não deve disparar entradas canceladas")
+    void shouldNotFireCancelledEntries() {
+        TimingWheel<String> wheel = new TimingWheel<>(3, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelada", 300);
+        wheel.schedule("mantida", 300);
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertEquals(List.of("mantida"), wheel.advanceTo(400));
+    }
+}
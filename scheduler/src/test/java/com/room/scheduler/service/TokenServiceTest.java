@@ -0,0 +1,79 @@
+package com.room.scheduler.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.room.scheduler.dto.TokenClaims;
+import com.room.scheduler.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TokenServiceTest {
+    private static final String SECRET = "test-secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve servir do cache a segunda verificação do mesmo token")
+    void shouldServeRepeatedVerificationFromCache() {
+        TokenService tokenService = new TokenService(meterRegistry, SECRET, true, Duration.ofSeconds(30), 100);
+        String token = tokenService.generateToken(user());
+
+        TokenClaims first = tokenService.verify(token);
+        TokenClaims second = tokenService.verify(token);
+
+        assertEquals(first, second);
+        assertEquals(42L, second.userId());
+        assertEquals(1, timerCount("verifier"));
+        assertEquals(1, timerCount("cache"));
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar do cache um token que já expirou")
+    void shouldRejectCachedTokenOnceExpired() throws InterruptedException {
+        TokenService tokenService = new TokenService(meterRegistry, SECRET, true, Duration.ofMinutes(5), 100);
+        // Issued by hand so it expires within the test instead of after the two-hour lifetime.
+        String token = JWT.create()
+                .withIssuer("auth-api")
+                .withSubject("ana@test.com")
+                .withClaim("uid", 42L)
+                .withIssuedAt(Instant.now())
+                .withExpiresAt(Instant.now().plusSeconds(2))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertNotNull(tokenService.verify(token));
+        Thread.sleep(3000);
+
+        assertNull(tokenService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens assinados com outro segredo, com ou sem cache")
+    void shouldRejectForeignTokens() {
+        String foreign = new TokenService(meterRegistry, "other-secret", false, Duration.ofSeconds(30), 100)
+                .generateToken(user());
+
+        assertNull(new TokenService(meterRegistry, SECRET, true, Duration.ofSeconds(30), 100).verify(foreign));
+        assertNull(new TokenService(meterRegistry, SECRET, false, Duration.ofSeconds(30), 100).verify(foreign));
+    }
+
+    private long timerCount(String source) {
+        return meterRegistry.get("auth.token.verify").tag("source", source).timer().count();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setName("Ana");
+        user.setEmail("ana@test.com");
+        user.setRole("USER");
+        return user;
+    }
+}